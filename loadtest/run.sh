@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드/가상 스레드 모드를 차례로 띄워 같은 부하를 주고 k6 요약을 loadtest/results/에 남긴다.
+# 사용법: MENTEE_USERNAME=... MENTEE_PASSWORD=... TASK_DATE=yyyy-MM-dd loadtest/run.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+mkdir -p loadtest/results
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+
+STARTUP_ATTEMPTS=${STARTUP_ATTEMPTS:-120}
+
+for mode in false true; do
+    # 가상 스레드 모드에서만 커넥션 대기 시간을 짧게 잡는다 (application.yml 참고)
+    if [ "$mode" = true ]; then
+        connection_timeout=3000
+    else
+        connection_timeout=30000
+    fi
+    VIRTUAL_THREADS_ENABLED=$mode DB_CONNECTION_TIMEOUT=$connection_timeout \
+        java -jar "$JAR" > "loadtest/results/app-virtual-$mode.log" 2>&1 &
+    APP_PID=$!
+    trap 'kill $APP_PID 2>/dev/null || true' EXIT
+
+    attempt=0
+    until curl -s --max-time 2 -o /dev/null http://localhost:8080/internal/metrics; do
+        attempt=$((attempt + 1))
+        if [ "$attempt" -ge "$STARTUP_ATTEMPTS" ] || ! kill -0 $APP_PID 2>/dev/null; then
+            echo "virtual=$mode 앱이 시작되지 않았습니다 - loadtest/results/app-virtual-$mode.log 확인" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+
+    k6 run --summary-export "loadtest/results/summary-virtual-$mode.json" loadtest/tasks.js
+    echo "virtual=$mode pinned: $(grep -c '가상 스레드 고정 감지' "loadtest/results/app-virtual-$mode.log" || true)"
+
+    kill $APP_PID
+    wait $APP_PID 2>/dev/null || true
+done
@@ -0,0 +1,68 @@
+// 과제 조회/제출 부하 테스트 (k6)
+// 플랫폼 스레드와 가상 스레드 모드의 처리량/지연 비교용 - 실행은 loadtest/run.sh 참고
+import http from 'k6/http';
+import encoding from 'k6/encoding';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERNAME = __ENV.MENTEE_USERNAME || 'mentee1';
+const PASSWORD = __ENV.MENTEE_PASSWORD || 'password';
+const TASK_DATE = __ENV.TASK_DATE || new Date().toISOString().slice(0, 10);
+
+// 1x1 PNG
+const COMPLETION_PHOTO = encoding.b64decode(
+    'iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mP8z8BQDwAEhQGAhKmMIQAAAABJRU5ErkJggg==',
+    'std'
+);
+
+export const options = {
+    scenarios: {
+        list_tasks: {
+            executor: 'constant-vus',
+            exec: 'listTasks',
+            vus: Number(__ENV.LIST_VUS || 200),
+            duration: __ENV.DURATION || '1m',
+        },
+        submit_task: {
+            executor: 'constant-vus',
+            exec: 'submitTask',
+            vus: Number(__ENV.SUBMIT_VUS || 50),
+            duration: __ENV.DURATION || '1m',
+        },
+    },
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+        'http_req_duration{scenario:list_tasks}': ['p(95)<500'],
+        'http_req_duration{scenario:submit_task}': ['p(95)<1500'],
+    },
+};
+
+export function setup() {
+    const login = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ username: USERNAME, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(login, { 'login 200': (r) => r.status === 200 });
+    const result = login.json('result');
+
+    const auth = { headers: { Authorization: `Bearer ${result.accessToken}` } };
+    const tasks = http.get(`${BASE_URL}/api/tasks?mentee_id=${result.userId}&date=${TASK_DATE}`, auth);
+    const taskIds = (tasks.json('result.tasks') || []).map((task) => task.taskId);
+    if (taskIds.length === 0) {
+        throw new Error(`${TASK_DATE}에 제출할 과제가 없습니다. TASK_DATE 또는 계정을 확인하세요.`);
+    }
+    return { token: result.accessToken, menteeId: result.userId, taskIds: taskIds };
+}
+
+export function listTasks(data) {
+    const res = http.get(`${BASE_URL}/api/tasks?mentee_id=${data.menteeId}&date=${TASK_DATE}`,
+        { headers: { Authorization: `Bearer ${data.token}` }, tags: { name: 'GET /api/tasks' } });
+    check(res, { 'list 200': (r) => r.status === 200 });
+}
+
+export function submitTask(data) {
+    const taskId = data.taskIds[Math.floor(Math.random() * data.taskIds.length)];
+    const body = { completion_photo: http.file(COMPLETION_PHOTO, 'completion.png', 'image/png') };
+    const res = http.post(`${BASE_URL}/api/tasks/${taskId}/submit`, body,
+        { headers: { Authorization: `Bearer ${data.token}` }, tags: { name: 'POST /api/tasks/{task_id}/submit' } });
+    check(res, { 'submit 201': (r) => r.status === 201 });
+}
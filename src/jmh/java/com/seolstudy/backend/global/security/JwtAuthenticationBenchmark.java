@@ -0,0 +1,85 @@
+package com.seolstudy.backend.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 요청당 JWT 인증 비용 비교
+ * legacy: validateToken + getAuthentication(getUsername) 각각 파서를 새로 만들어 두 번 검증하던 기존 흐름
+ * parseOnce: 공유 파서로 한 번 검증한 클레임을 재사용하는 현재 흐름
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-authentication-minimum-256-bits";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtTokenProvider = new JwtTokenProvider(username -> {
+            throw new IllegalStateException("stateless 모드에서는 호출되지 않음");
+        });
+        setField("secretKey", SECRET);
+        setField("accessTokenExpiration", 3600000L);
+        setField("refreshTokenExpiration", 604800000L);
+        setField("statelessAuthentication", true);
+        jwtTokenProvider.init();
+
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtTokenProvider.createAccessToken(1L, "mentee1", "MENTEE");
+    }
+
+    @Benchmark
+    public Authentication legacy() {
+        legacyParse(token);
+        Claims claims = legacyParse(token);
+        AuthUser authUser = AuthUser.fromClaims(
+                claims.get("userId", Long.class),
+                claims.get("username", String.class),
+                claims.get("role", String.class)
+        );
+        return new UsernamePasswordAuthenticationToken(authUser, token, authUser.getAuthorities());
+    }
+
+    @Benchmark
+    public Authentication parseOnce() {
+        return jwtTokenProvider.resolveClaims(token)
+                .map(jwtTokenProvider::getAuthentication)
+                .orElseThrow();
+    }
+
+    private Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtTokenProvider, value);
+    }
+}
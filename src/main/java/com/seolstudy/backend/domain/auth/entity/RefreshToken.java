@@ -1,6 +1,7 @@
 package com.seolstudy.backend.domain.auth.entity;
 
 import com.seolstudy.backend.domain.user.entity.User;
+import com.seolstudy.backend.global.persistence.IdSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -12,6 +13,7 @@ import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -28,7 +30,9 @@ import lombok.NoArgsConstructor;
 public class RefreshToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "refresh_token_id_generator")
+    @TableGenerator(name = "refresh_token_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "refresh_token", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "refresh_token_id")
     private Long id;
 
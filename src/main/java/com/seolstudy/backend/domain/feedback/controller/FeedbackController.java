@@ -36,11 +36,16 @@ public class FeedbackController {
         return CommonResponse.onSuccess(response);
     }
 
-    @Operation(summary = "멘티의 피드백 목록 조회", description = "특정 멘티의 모든 피드백을 조회합니다")
+    @Operation(summary = "멘티의 피드백 목록 조회",
+            description = "특정 멘티의 피드백을 최신순으로 조회합니다. cursor와 size를 모두 생략하면 전체 이력을 반환하고, "
+                    + "하나라도 전달하면 페이지 단위로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다")
     @GetMapping("/mentee/{menteeId}")
-    @PreAuthorize("hasAnyRole('MENTOR', 'MENTEE')")
-    public CommonResponse<FeedbackListResponse> getFeedbacksByMentee(@PathVariable Long menteeId) {
-        FeedbackListResponse response = feedbackService.getFeedbacksByMentee(menteeId);
+    @PreAuthorize("hasAnyRole('MENTOR', 'MENTEE') and @mentoringAccess.canAccessMentee(authentication, #menteeId)")
+    public CommonResponse<FeedbackListResponse> getFeedbacksByMentee(
+            @PathVariable Long menteeId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        FeedbackListResponse response = feedbackService.getFeedbacksByMentee(menteeId, cursor, size);
         return CommonResponse.onSuccess(response);
     }
 
@@ -0,0 +1,52 @@
+package com.seolstudy.backend.domain.feedback.dto;
+
+import com.seolstudy.backend.global.exception.GeneralException;
+import com.seolstudy.backend.global.payload.status.ErrorStatus;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 피드백 목록 keyset 커서 (feedbackDate, createdAt, feedbackId)
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FeedbackCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDate feedbackDate;
+    private final LocalDateTime createdAt;
+    private final Long feedbackId;
+
+    public static FeedbackCursor from(FeedbackResponse feedback) {
+        return new FeedbackCursor(feedback.getFeedbackDate(), feedback.getCreatedAt(), feedback.getFeedbackId());
+    }
+
+    public static FeedbackCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new GeneralException(ErrorStatus.INVALID_FEEDBACK_CURSOR);
+            }
+            return new FeedbackCursor(
+                    LocalDate.parse(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new GeneralException(ErrorStatus.INVALID_FEEDBACK_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = feedbackDate + DELIMITER + createdAt + DELIMITER + feedbackId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -14,4 +14,6 @@ public class FeedbackListResponse {
     private Long menteeId;
     private String menteeName;
     private List<FeedbackResponse> feedbacks;
-}
\ No newline at end of file
+    private Boolean hasNext;
+    private String nextCursor;
+}
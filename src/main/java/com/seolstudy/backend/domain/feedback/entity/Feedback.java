@@ -2,6 +2,7 @@ package com.seolstudy.backend.domain.feedback.entity;
 
 import com.seolstudy.backend.domain.task.entity.Task;
 import com.seolstudy.backend.domain.user.entity.User;
+import com.seolstudy.backend.global.persistence.IdSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -13,7 +14,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "feedback")
+@Table(name = "feedback", indexes = {
+        @Index(name = "idx_feedback_mentee_date", columnList = "mentee_id, feedback_date, created_at"),
+        @Index(name = "idx_feedback_task", columnList = "task_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -21,7 +25,9 @@ import java.time.LocalDateTime;
 public class Feedback {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "feedback_id_generator")
+    @TableGenerator(name = "feedback_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "feedback", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "feedback_id")
     private Long id;
 
@@ -1,12 +1,15 @@
 package com.seolstudy.backend.domain.feedback.repository;
 
+import com.seolstudy.backend.domain.feedback.dto.FeedbackResponse;
 import com.seolstudy.backend.domain.feedback.entity.Feedback;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,41 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
     @Query("SELECT f FROM Feedback f WHERE f.mentee.id = :menteeId ORDER BY f.feedbackDate DESC, f.createdAt DESC")
     List<Feedback> findByMenteeId(@Param("menteeId") Long menteeId);
 
+    /**
+     * 피드백 응답 DTO projection (과제명, 멘티/멘토 이름, 과목 정보 포함)
+     */
+    String FEEDBACK_RESPONSE_SELECT = "SELECT new com.seolstudy.backend.domain.feedback.dto.FeedbackResponse("
+            + "f.id, t.id, t.taskName, me.id, me.name, mo.id, mo.name, "
+            + "f.subjectId, s.subjectName, s.subjectCode, "
+            + "f.feedbackDate, f.detailContent, f.createdAt, f.updatedAt) "
+            + "FROM Feedback f JOIN f.task t JOIN f.mentee me JOIN f.mentor mo "
+            + "LEFT JOIN Subject s ON s.id = f.subjectId ";
+
+    /**
+     * 특정 멘티의 피드백 응답 목록 첫 페이지 조회
+     */
+    @Query(FEEDBACK_RESPONSE_SELECT
+            + "WHERE me.id = :menteeId "
+            + "ORDER BY f.feedbackDate DESC, f.createdAt DESC, f.id DESC")
+    List<FeedbackResponse> findResponsesByMenteeId(@Param("menteeId") Long menteeId, Pageable pageable);
+
+    /**
+     * 특정 멘티의 피드백 응답 목록 커서 이후 페이지 조회 (keyset: feedbackDate, createdAt, id)
+     */
+    @Query(FEEDBACK_RESPONSE_SELECT
+            + "WHERE me.id = :menteeId "
+            + "AND (f.feedbackDate < :feedbackDate "
+            + "OR (f.feedbackDate = :feedbackDate AND f.createdAt < :createdAt) "
+            + "OR (f.feedbackDate = :feedbackDate AND f.createdAt = :createdAt AND f.id < :feedbackId)) "
+            + "ORDER BY f.feedbackDate DESC, f.createdAt DESC, f.id DESC")
+    List<FeedbackResponse> findResponsesByMenteeIdAfter(
+            @Param("menteeId") Long menteeId,
+            @Param("feedbackDate") LocalDate feedbackDate,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("feedbackId") Long feedbackId,
+            Pageable pageable
+    );
+
     /**
      * 특정 멘토의 피드백 목록 조회
      */
@@ -2,13 +2,14 @@ package com.seolstudy.backend.domain.feedback.service;
 
 import com.seolstudy.backend.domain.feedback.dto.FeedbackCheckResponse;
 import com.seolstudy.backend.domain.feedback.dto.FeedbackCreateRequest;
+import com.seolstudy.backend.domain.feedback.dto.FeedbackCursor;
 import com.seolstudy.backend.domain.feedback.dto.FeedbackListResponse;
 import com.seolstudy.backend.domain.feedback.dto.FeedbackResponse;
 import com.seolstudy.backend.domain.feedback.dto.FeedbackUpdateRequest;
 import com.seolstudy.backend.domain.feedback.entity.Feedback;
 import com.seolstudy.backend.domain.feedback.repository.FeedbackRepository;
+import com.seolstudy.backend.domain.subject.SubjectCatalog;
 import com.seolstudy.backend.domain.subject.entity.Subject;
-import com.seolstudy.backend.domain.subject.repository.SubjectRepository;
 import com.seolstudy.backend.domain.task.entity.Task;
 import com.seolstudy.backend.domain.task.repository.TaskRepository;
 import com.seolstudy.backend.domain.user.entity.User;
@@ -19,8 +20,9 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,10 +31,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class FeedbackService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final FeedbackRepository feedbackRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
-    private final SubjectRepository subjectRepository;
+    private final SubjectCatalog subjectCatalog;
 
     /**
      * 피드백 생성
@@ -49,7 +54,7 @@ public class FeedbackService {
         User mentee = getUserOrThrow(request.getMenteeId());
         User mentor = getUserOrThrow(request.getMentorId());
 
-        Subject subject = subjectRepository.findById(request.getSubjectId())
+        Subject subject = subjectCatalog.findById(request.getSubjectId())
                 .orElseThrow(() -> new GeneralException(ErrorStatus.SUBJECT_NOT_FOUND));
 
         LocalDate feedbackDate = parseDate(request.getFeedbackDate());
@@ -77,7 +82,7 @@ public class FeedbackService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.FEEDBACK_NOT_FOUND));
 
         Task task = feedback.getTask();
-        Subject subject = subjectRepository.findById(feedback.getSubjectId())
+        Subject subject = subjectCatalog.findById(feedback.getSubjectId())
                 .orElseThrow(() -> new GeneralException(ErrorStatus.SUBJECT_NOT_FOUND));
 
         return FeedbackResponse.from(feedback, task.getTaskName(),
@@ -87,25 +92,45 @@ public class FeedbackService {
     /**
      * 멘티의 피드백 목록 조회
      */
-    public FeedbackListResponse getFeedbacksByMentee(Long menteeId) {
+    public FeedbackListResponse getFeedbacksByMentee(Long menteeId, String cursor, Integer size) {
         User mentee = getUserOrThrow(menteeId);
 
-        List<Feedback> feedbacks = feedbackRepository.findByMenteeId(menteeId);
+        // 페이지 파라미터가 없는 기존 클라이언트에는 이전처럼 전체 이력을 돌려준다
+        if ((cursor == null || cursor.isBlank()) && size == null) {
+            return FeedbackListResponse.builder()
+                    .menteeId(mentee.getId())
+                    .menteeName(mentee.getName())
+                    .feedbacks(feedbackRepository.findResponsesByMenteeId(menteeId, Pageable.unpaged()))
+                    .hasNext(false)
+                    .nextCursor(null)
+                    .build();
+        }
 
-        List<FeedbackResponse> feedbackResponses = feedbacks.stream()
-                .map(feedback -> {
-                    Task task = feedback.getTask();
-                    Subject subject = subjectRepository.findById(feedback.getSubjectId())
-                            .orElseThrow(() -> new GeneralException(ErrorStatus.SUBJECT_NOT_FOUND));
-                    return FeedbackResponse.from(feedback, task.getTaskName(),
-                            subject.getSubjectName(), subject.getSubjectCode());
-                })
-                .collect(Collectors.toList());
+        int pageSize = resolvePageSize(size);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (OFFSET 없이 keyset으로 이어서 조회)
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+        List<FeedbackResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = feedbackRepository.findResponsesByMenteeId(menteeId, limit);
+        } else {
+            FeedbackCursor after = FeedbackCursor.decode(cursor);
+            rows = feedbackRepository.findResponsesByMenteeIdAfter(menteeId,
+                    after.getFeedbackDate(), after.getCreatedAt(), after.getFeedbackId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<FeedbackResponse> feedbackResponses = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext
+                ? FeedbackCursor.from(feedbackResponses.get(feedbackResponses.size() - 1)).encode()
+                : null;
 
         return FeedbackListResponse.builder()
                 .menteeId(mentee.getId())
                 .menteeName(mentee.getName())
                 .feedbacks(feedbackResponses)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -133,7 +158,7 @@ public class FeedbackService {
         feedback.update(request.getDetailContent());
 
         Task task = feedback.getTask();
-        Subject subject = subjectRepository.findById(feedback.getSubjectId())
+        Subject subject = subjectCatalog.findById(feedback.getSubjectId())
                 .orElseThrow(() -> new GeneralException(ErrorStatus.SUBJECT_NOT_FOUND));
 
         return FeedbackResponse.from(feedback, task.getTaskName(),
@@ -151,6 +176,16 @@ public class FeedbackService {
         feedbackRepository.delete(feedback);
     }
 
+    /**
+     * 페이지 크기 (미입력 시 기본값, 최대값 제한)
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
     /**
      * 날짜 파싱
      */
@@ -0,0 +1,44 @@
+package com.seolstudy.backend.domain.mentoring;
+
+import com.seolstudy.backend.domain.mentoring.repository.MentoringRepository;
+import com.seolstudy.backend.domain.user.entity.UserRole;
+import com.seolstudy.backend.global.security.AuthUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멘티 데이터 접근 권한 검사 (@PreAuthorize에서 @mentoringAccess로 사용)
+ * 멘티는 본인 데이터만, 멘토는 활성 관계인 멘티 데이터만 접근할 수 있다.
+ * 관계 인덱스는 인스턴스마다 최대 refresh-interval만큼 늦을 수 있으므로,
+ * 인덱스에 없는 관계(다른 인스턴스에서 방금 등록된 관계 포함)는 DB에서 다시 확인한다.
+ */
+@Component("mentoringAccess")
+@RequiredArgsConstructor
+public class MentoringAccessChecker {
+
+    private final MentoringRelationshipIndex mentoringRelationshipIndex;
+    private final MentoringRepository mentoringRepository;
+
+    public boolean canAccessMentee(Authentication authentication, Long menteeId) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthUser authUser)) {
+            return false;
+        }
+
+        if (UserRole.MENTEE.name().equals(authUser.getRole())) {
+            return authUser.getUserId().equals(menteeId);
+        }
+        if (UserRole.MENTOR.name().equals(authUser.getRole())) {
+            return isMentorOf(authUser.getUserId(), menteeId);
+        }
+        return false;
+    }
+
+    private boolean isMentorOf(Long mentorId, Long menteeId) {
+        if (mentorId == null || menteeId == null) {
+            return false;
+        }
+        return mentoringRelationshipIndex.isMentorOf(mentorId, menteeId)
+                || mentoringRepository.existsActiveRelationship(mentorId, menteeId);
+    }
+}
@@ -0,0 +1,171 @@
+package com.seolstudy.backend.domain.mentoring;
+
+import com.seolstudy.backend.domain.mentoring.dto.MentoringLink;
+import com.seolstudy.backend.domain.mentoring.event.MentoringChangedEvent;
+import com.seolstudy.backend.domain.mentoring.repository.MentoringRepository;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 활성 멘토-멘티 관계 인덱스 (프로세스 로컬 캐시)
+ * 멘토 → 정렬된 멘티 ID 배열(long[])을 불변 스냅샷으로 들고 있어 권한 검사를 DB 조회 없이 처리한다.
+ * 한 멘티가 여러 멘토와 활성 관계일 수 있으므로 멘티 → 멘토 방향 조회는 두지 않는다.
+ * 관계 변경은 커밋 후 이벤트로 반영하고, 다른 인스턴스에서 바뀐 관계는 주기적인 전체 재적재로 따라잡는다.
+ */
+@Slf4j
+@Component
+public class MentoringRelationshipIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final MentoringRepository mentoringRepository;
+    private final boolean refreshEnabled;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public MentoringRelationshipIndex(
+            MentoringRepository mentoringRepository,
+            @Value("${mentoring.relationship-index.refresh-enabled:true}") boolean refreshEnabled
+    ) {
+        this.mentoringRepository = mentoringRepository;
+        this.refreshEnabled = refreshEnabled;
+    }
+
+    /**
+     * DB에서 활성 관계를 다시 읽어 인덱스 교체
+     */
+    public void refresh() {
+        writeLock.lock();
+        try {
+            List<MentoringLink> links = mentoringRepository.findAllActiveLinks();
+            snapshot = Snapshot.of(links);
+            log.debug("멘토링 관계 인덱스 적재 완료 - {}건", links.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${mentoring.relationship-index.refresh-interval:PT5M}",
+            initialDelayString = "${mentoring.relationship-index.refresh-interval:PT5M}"
+    )
+    public void scheduledRefresh() {
+        if (!refreshEnabled || snapshot == null) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("멘토링 관계 인덱스 재적재 실패", e);
+        }
+    }
+
+    /**
+     * 관계 변경 트랜잭션이 커밋된 뒤에만 인덱스에 반영 (롤백된 변경은 무시)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMentoringChanged(MentoringChangedEvent event) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current == null) {
+                // 아직 적재 전이면 첫 조회 시 커밋된 상태를 읽는다
+                return;
+            }
+            snapshot = event.isActive()
+                    ? current.with(event.getMentorId(), event.getMenteeId())
+                    : current.without(event.getMentorId(), event.getMenteeId());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean isMentorOf(Long mentorId, Long menteeId) {
+        if (mentorId == null || menteeId == null) {
+            return false;
+        }
+        long[] mentees = current().menteesByMentor.getOrDefault(mentorId, EMPTY);
+        return Arrays.binarySearch(mentees, menteeId) >= 0;
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded == null) {
+            refresh();
+            loaded = snapshot;
+        }
+        return loaded;
+    }
+
+    /**
+     * 불변 스냅샷 (변경 시 복사 후 교체)
+     */
+    private static final class Snapshot {
+
+        private final Map<Long, long[]> menteesByMentor;
+
+        private Snapshot(Map<Long, long[]> menteesByMentor) {
+            this.menteesByMentor = Map.copyOf(menteesByMentor);
+        }
+
+        private static Snapshot of(List<MentoringLink> links) {
+            Map<Long, long[]> menteesByMentor = new HashMap<>();
+            for (MentoringLink link : links) {
+                menteesByMentor.merge(link.getMentorId(), new long[]{link.getMenteeId()},
+                        (mentees, added) -> insert(mentees, added[0]));
+            }
+            return new Snapshot(menteesByMentor);
+        }
+
+        private Snapshot with(Long mentorId, Long menteeId) {
+            Map<Long, long[]> menteesByMentor = new HashMap<>(this.menteesByMentor);
+            menteesByMentor.put(mentorId, insert(menteesByMentor.getOrDefault(mentorId, EMPTY), menteeId));
+            return new Snapshot(menteesByMentor);
+        }
+
+        private Snapshot without(Long mentorId, Long menteeId) {
+            Map<Long, long[]> menteesByMentor = new HashMap<>(this.menteesByMentor);
+            long[] remaining = remove(menteesByMentor.getOrDefault(mentorId, EMPTY), menteeId);
+            if (remaining.length == 0) {
+                menteesByMentor.remove(mentorId);
+            } else {
+                menteesByMentor.put(mentorId, remaining);
+            }
+            return new Snapshot(menteesByMentor);
+        }
+
+        private static long[] insert(long[] sorted, long value) {
+            int index = Arrays.binarySearch(sorted, value);
+            if (index >= 0) {
+                return sorted;
+            }
+            int insertAt = -index - 1;
+            long[] result = new long[sorted.length + 1];
+            System.arraycopy(sorted, 0, result, 0, insertAt);
+            result[insertAt] = value;
+            System.arraycopy(sorted, insertAt, result, insertAt + 1, sorted.length - insertAt);
+            return result;
+        }
+
+        private static long[] remove(long[] sorted, long value) {
+            int index = Arrays.binarySearch(sorted, value);
+            if (index < 0) {
+                return sorted;
+            }
+            long[] result = new long[sorted.length - 1];
+            System.arraycopy(sorted, 0, result, 0, index);
+            System.arraycopy(sorted, index + 1, result, index, sorted.length - index - 1);
+            return result;
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.seolstudy.backend.domain.mentoring.controller;
 
 import com.seolstudy.backend.domain.mentoring.dto.MenteeListResponse;
+import com.seolstudy.backend.domain.mentoring.dto.MentorDashboardResponse;
 import com.seolstudy.backend.domain.mentoring.dto.MentorResponse;
 import com.seolstudy.backend.domain.mentoring.dto.MentoringCreateRequest;
 import com.seolstudy.backend.domain.mentoring.dto.MentoringResponse;
 import com.seolstudy.backend.domain.mentoring.service.MentoringService;
 import com.seolstudy.backend.global.payload.CommonResponse;
 import com.seolstudy.backend.global.payload.status.SuccessStatus;
+import com.seolstudy.backend.global.security.AuthUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "멘토링", description = "멘토-멘티 관계 관리 API")
@@ -59,6 +62,17 @@ public class MentoringController {
         return CommonResponse.onSuccess(response);
     }
 
+    @Operation(summary = "멘토 대시보드 조회",
+            description = "담당 멘티별 해당 날짜 과제 수, 완료 수, 최근 30일 피드백 대기 과제 수를 한 번에 조회합니다")
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasRole('MENTOR')")
+    public CommonResponse<MentorDashboardResponse> getDashboard(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(value = "date", required = false) String date) {
+        MentorDashboardResponse response = mentoringService.getDashboard(authUser.getUserId(), date);
+        return CommonResponse.onSuccess(response);
+    }
+
     @Operation(summary = "담당 멘토 조회", description = "멘티의 담당 멘토를 조회합니다")
     @GetMapping("/mentor")
     @PreAuthorize("hasRole('MENTEE')")
@@ -0,0 +1,31 @@
+package com.seolstudy.backend.domain.mentoring.dto;
+
+import com.seolstudy.backend.domain.task.dto.MenteeTaskSummary;
+import com.seolstudy.backend.domain.user.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class MenteeDashboardInfo {
+
+    private Long menteeId;
+    private String menteeName;
+    private String username;
+    private Long todayTaskCount;
+    private Long todayCompletedCount;
+    private Long awaitingFeedbackCount;
+
+    public static MenteeDashboardInfo of(User mentee, MenteeTaskSummary summary) {
+        return MenteeDashboardInfo.builder()
+                .menteeId(mentee.getId())
+                .menteeName(mentee.getName())
+                .username(mentee.getUsername())
+                .todayTaskCount(summary.getTodayTaskCount())
+                .todayCompletedCount(summary.getTodayCompletedCount())
+                .awaitingFeedbackCount(summary.getAwaitingFeedbackCount())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.seolstudy.backend.domain.mentoring.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class MentorDashboardResponse {
+
+    private Long mentorId;
+    private String mentorName;
+    private LocalDate date;
+    private List<MenteeDashboardInfo> mentees;
+}
@@ -0,0 +1,15 @@
+package com.seolstudy.backend.domain.mentoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 활성 멘토-멘티 관계 ID 쌍 (관계 인덱스 적재용 JPQL projection)
+ */
+@Getter
+@AllArgsConstructor
+public class MentoringLink {
+
+    private Long mentorId;
+    private Long menteeId;
+}
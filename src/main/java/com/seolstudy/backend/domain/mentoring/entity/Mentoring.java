@@ -1,6 +1,7 @@
 package com.seolstudy.backend.domain.mentoring.entity;
 
 import com.seolstudy.backend.domain.user.entity.User;
+import com.seolstudy.backend.global.persistence.IdSequence;
 import jakarta.persistence.Access;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -8,11 +9,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import java.util.Locale;
 import lombok.AccessLevel;
@@ -22,7 +25,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "mentoring")
+@Table(name = "mentoring", indexes = {
+        @Index(name = "idx_mentoring_mentor_active", columnList = "mentor_id, is_active"),
+        @Index(name = "idx_mentoring_mentee_active", columnList = "mentee_id, is_active")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -30,7 +36,9 @@ import lombok.NoArgsConstructor;
 public class Mentoring {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "mentoring_id_generator")
+    @TableGenerator(name = "mentoring_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "mentoring", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "mentoring_id")
     private Long id;
 
@@ -0,0 +1,16 @@
+package com.seolstudy.backend.domain.mentoring.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 멘토-멘티 관계 활성화/비활성화 이벤트 (커밋 후 관계 인덱스 갱신용)
+ */
+@Getter
+@AllArgsConstructor
+public class MentoringChangedEvent {
+
+    private final Long mentorId;
+    private final Long menteeId;
+    private final boolean active;
+}
@@ -1,5 +1,6 @@
 package com.seolstudy.backend.domain.mentoring.repository;
 
+import com.seolstudy.backend.domain.mentoring.dto.MentoringLink;
 import com.seolstudy.backend.domain.mentoring.entity.Mentoring;
 import java.util.List;
 import java.util.Optional;
@@ -12,15 +13,15 @@ import org.springframework.stereotype.Repository;
 public interface MentoringRepository extends JpaRepository<Mentoring, Long> {
 
     /**
-     * 멘토의 활성화된 멘티 목록 조회
+     * 멘토의 활성화된 멘티 목록 조회 (멘티 fetch join)
      */
-    @Query("SELECT m FROM Mentoring m WHERE m.mentor.id = :mentorId AND m.isActive = true")
+    @Query("SELECT m FROM Mentoring m JOIN FETCH m.mentee WHERE m.mentor.id = :mentorId AND m.isActive = true ORDER BY m.id ASC")
     List<Mentoring> findActiveByMentorId(@Param("mentorId") Long mentorId);
 
     /**
-     * 멘티의 활성화된 멘토 조회
+     * 멘티의 활성화된 멘토 조회 (멘토 fetch join)
      */
-    @Query("SELECT m FROM Mentoring m WHERE m.mentee.id = :menteeId AND m.isActive = true")
+    @Query("SELECT m FROM Mentoring m JOIN FETCH m.mentor WHERE m.mentee.id = :menteeId AND m.isActive = true")
     Optional<Mentoring> findActiveByMenteeId(@Param("menteeId") Long menteeId);
 
     /**
@@ -29,6 +30,13 @@ public interface MentoringRepository extends JpaRepository<Mentoring, Long> {
     @Query("SELECT COUNT(m) > 0 FROM Mentoring m WHERE m.mentor.id = :mentorId AND m.mentee.id = :menteeId AND m.isActive = true")
     boolean existsActiveRelationship(@Param("mentorId") Long mentorId, @Param("menteeId") Long menteeId);
 
+    /**
+     * 활성화된 멘토-멘티 관계 ID 쌍 전체 조회 (관계 인덱스 적재용)
+     */
+    @Query("SELECT new com.seolstudy.backend.domain.mentoring.dto.MentoringLink(m.mentor.id, m.mentee.id) "
+            + "FROM Mentoring m WHERE m.isActive = true")
+    List<MentoringLink> findAllActiveLinks();
+
     /**
      * 특정 멘토-멘티 관계 조회 (활성화 여부 무관)
      */
@@ -1,20 +1,31 @@
 package com.seolstudy.backend.domain.mentoring.service;
 
+import com.seolstudy.backend.domain.mentoring.dto.MenteeDashboardInfo;
 import com.seolstudy.backend.domain.mentoring.dto.MenteeInfo;
 import com.seolstudy.backend.domain.mentoring.dto.MenteeListResponse;
+import com.seolstudy.backend.domain.mentoring.dto.MentorDashboardResponse;
 import com.seolstudy.backend.domain.mentoring.dto.MentorResponse;
 import com.seolstudy.backend.domain.mentoring.dto.MentoringCreateRequest;
 import com.seolstudy.backend.domain.mentoring.dto.MentoringResponse;
 import com.seolstudy.backend.domain.mentoring.entity.Mentoring;
+import com.seolstudy.backend.domain.mentoring.event.MentoringChangedEvent;
 import com.seolstudy.backend.domain.mentoring.repository.MentoringRepository;
+import com.seolstudy.backend.domain.task.dto.MenteeTaskSummary;
+import com.seolstudy.backend.domain.task.repository.TaskRepository;
+import com.seolstudy.backend.domain.task.service.TaskService;
 import com.seolstudy.backend.domain.user.entity.User;
 import com.seolstudy.backend.domain.user.entity.UserRole;
 import com.seolstudy.backend.domain.user.repository.UserRepository;
 import com.seolstudy.backend.global.exception.GeneralException;
 import com.seolstudy.backend.global.payload.status.ErrorStatus;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +36,15 @@ public class MentoringService {
 
     private final MentoringRepository mentoringRepository;
     private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 피드백 대기 과제를 세는 기간 (기준 날짜를 포함한 최근 N일)
+     * 오래된 미피드백 과제까지 매번 훑지 않도록 (mentee_id, task_date) 인덱스 범위로 집계를 제한한다.
+     */
+    @Value("${mentoring.dashboard.awaiting-feedback-days:30}")
+    private int awaitingFeedbackDays = 30;
 
     /**
      * 멘토-멘티 관계 등록
@@ -60,6 +80,7 @@ public class MentoringService {
                         .build());
 
         Mentoring savedMentoring = mentoringRepository.save(mentoring);
+        eventPublisher.publishEvent(new MentoringChangedEvent(mentor.getId(), mentee.getId(), true));
 
         return MentoringResponse.from(savedMentoring);
     }
@@ -84,6 +105,7 @@ public class MentoringService {
         }
 
         mentoring.deactivate();
+        eventPublisher.publishEvent(new MentoringChangedEvent(mentor.getId(), menteeId, false));
     }
 
     /**
@@ -114,6 +136,44 @@ public class MentoringService {
                 .build();
     }
 
+    /**
+     * 멘토 대시보드 조회
+     * 담당 멘티 목록과 멘티별 과제 집계를 각각 한 번의 쿼리로 읽어 합친다.
+     * 멘토는 인증 토큰의 userId로 바로 조회한다.
+     */
+    public MentorDashboardResponse getDashboard(Long mentorId, String dateStr) {
+        User mentor = userRepository.findById(mentorId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+
+        if (mentor.getRole() != UserRole.MENTOR) {
+            throw new GeneralException(ErrorStatus.MENTORING_INVALID_MENTOR_ROLE);
+        }
+
+        LocalDate date = TaskService.parseTaskDate(dateStr);
+        LocalDate awaitingFeedbackFrom = date.minusDays(awaitingFeedbackDays - 1L);
+        List<User> mentees = mentoringRepository.findActiveByMentorId(mentor.getId()).stream()
+                .map(Mentoring::getMentee)
+                .toList();
+
+        Map<Long, MenteeTaskSummary> summaries = mentees.isEmpty()
+                ? Map.of()
+                : taskRepository.summarizeByMenteeIds(
+                        mentees.stream().map(User::getId).toList(), awaitingFeedbackFrom, date).stream()
+                .collect(Collectors.toMap(MenteeTaskSummary::getMenteeId, Function.identity()));
+
+        List<MenteeDashboardInfo> menteeInfos = mentees.stream()
+                .map(mentee -> MenteeDashboardInfo.of(mentee,
+                        summaries.getOrDefault(mentee.getId(), MenteeTaskSummary.empty(mentee.getId()))))
+                .toList();
+
+        return MentorDashboardResponse.builder()
+                .mentorId(mentor.getId())
+                .mentorName(mentor.getName())
+                .date(date)
+                .mentees(menteeInfos)
+                .build();
+    }
+
     /**
      * 멘티의 담당 멘토 조회
      */
@@ -1,5 +1,6 @@
 package com.seolstudy.backend.domain.planner.entity;
 
+import com.seolstudy.backend.global.persistence.IdSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -11,7 +12,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "planner")
+@Table(name = "planner", indexes = {
+        @Index(name = "idx_planner_mentee_date", columnList = "mentee_id, planner_date"),
+        @Index(name = "idx_planner_image_url", columnList = "image_url")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -19,7 +23,9 @@ import java.time.LocalDateTime;
 public class Planner {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "planner_id_generator")
+    @TableGenerator(name = "planner_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "planner", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "planner_id")
     private Long id;
 
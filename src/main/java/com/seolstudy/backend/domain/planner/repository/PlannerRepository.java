@@ -2,8 +2,12 @@ package com.seolstudy.backend.domain.planner.repository;
 
 import com.seolstudy.backend.domain.planner.entity.Planner;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PlannerRepository extends JpaRepository<Planner, Long> {
@@ -11,4 +15,9 @@ public interface PlannerRepository extends JpaRepository<Planner, Long> {
     Optional<Planner> findByMenteeIdAndPlannerDate(Long menteeId, LocalDate plannerDate);
 
     boolean existsByMenteeIdAndPlannerDate(Long menteeId, LocalDate plannerDate);
+
+    long countByImageUrl(String imageUrl);
+
+    @Query("SELECT DISTINCT p.imageUrl FROM Planner p WHERE p.imageUrl IN :urls")
+    List<String> findImageUrlsIn(@Param("urls") Collection<String> urls);
 }
@@ -11,7 +11,7 @@ import com.seolstudy.backend.domain.user.entity.UserRole;
 import com.seolstudy.backend.domain.user.repository.UserRepository;
 import com.seolstudy.backend.global.exception.GeneralException;
 import com.seolstudy.backend.global.payload.status.ErrorStatus;
-import com.seolstudy.backend.global.storage.LocalFileStorage;
+import com.seolstudy.backend.global.storage.FileUploadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,7 +27,7 @@ import java.time.format.DateTimeParseException;
 public class PlannerService {
 
     private final PlannerRepository plannerRepository;
-    private final LocalFileStorage localFileStorage;
+    private final FileUploadService fileUploadService;
     private final UserRepository userRepository;
 
     /**
@@ -43,7 +43,7 @@ public class PlannerService {
 
         LocalDate plannerDate = parseDate(request.getPlannerDate());
         // 이미지 업로드는 "업로드" 커밋으로 분리 예정
-        String imageUrl = localFileStorage.storePlannerImage(image);
+        String imageUrl = fileUploadService.storePlannerImage(image);
 
         Planner planner = Planner.builder()
                 .menteeId(request.getMenteeId())
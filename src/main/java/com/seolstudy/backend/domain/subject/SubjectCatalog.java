@@ -0,0 +1,77 @@
+package com.seolstudy.backend.domain.subject;
+
+import com.seolstudy.backend.domain.subject.entity.Subject;
+import com.seolstudy.backend.domain.subject.repository.SubjectRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 과목 카탈로그 (프로세스 로컬 캐시)
+ * 과목 테이블은 거의 변하지 않으므로 시작 시 한 번 적재하고, 변경 시 refresh()로 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubjectCatalog {
+
+    private final SubjectRepository subjectRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * DB에서 과목 목록을 다시 읽어 카탈로그 교체
+     */
+    public void refresh() {
+        List<Subject> subjects = subjectRepository.findAll();
+        snapshot = new Snapshot(subjects);
+        log.info("과목 카탈로그 적재 완료 - {}건", subjects.size());
+    }
+
+    public Optional<Subject> findById(Long subjectId) {
+        if (subjectId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current().byId.get(subjectId));
+    }
+
+    public Optional<Subject> findByCode(String subjectCode) {
+        if (subjectCode == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current().byCode.get(subjectCode));
+    }
+
+    public List<Subject> findAll() {
+        return current().subjects;
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded == null) {
+            refresh();
+            loaded = snapshot;
+        }
+        return loaded;
+    }
+
+    private static final class Snapshot {
+
+        private final List<Subject> subjects;
+        private final Map<Long, Subject> byId;
+        private final Map<String, Subject> byCode;
+
+        private Snapshot(List<Subject> subjects) {
+            this.subjects = List.copyOf(subjects);
+            this.byId = Map.copyOf(subjects.stream()
+                    .collect(Collectors.toMap(Subject::getId, Function.identity())));
+            this.byCode = Map.copyOf(subjects.stream()
+                    .collect(Collectors.toMap(Subject::getSubjectCode, Function.identity(), (first, second) -> first)));
+        }
+    }
+}
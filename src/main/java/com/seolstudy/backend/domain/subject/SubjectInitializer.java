@@ -13,14 +13,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class SubjectInitializer implements ApplicationRunner {
 
     private final SubjectRepository subjectRepository;
+    private final SubjectCatalog subjectCatalog;
 
     @Override
     @Transactional
     public void run(ApplicationArguments args) {
-        if (subjectRepository.count() > 0) {
-            return;
+        if (subjectRepository.count() == 0) {
+            saveDefaultSubjects();
         }
 
+        subjectCatalog.refresh();
+    }
+
+    private void saveDefaultSubjects() {
         subjectRepository.save(Subject.builder()
                 .subjectName("국어")
                 .subjectCode("KOR")
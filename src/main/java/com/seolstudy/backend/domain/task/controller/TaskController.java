@@ -1,7 +1,12 @@
 package com.seolstudy.backend.domain.task.controller;
 
 import com.seolstudy.backend.domain.task.dto.TaskCompletionResponse;
+import com.seolstudy.backend.domain.task.dto.TaskAttachmentConfirmRequest;
 import com.seolstudy.backend.domain.task.dto.TaskAttachmentResponse;
+import com.seolstudy.backend.domain.task.dto.TaskAttachmentUploadUrlRequest;
+import com.seolstudy.backend.domain.task.dto.TaskAttachmentUploadUrlResponse;
+import com.seolstudy.backend.domain.task.dto.TaskBulkCreateRequest;
+import com.seolstudy.backend.domain.task.dto.TaskBulkCreateResponse;
 import com.seolstudy.backend.domain.task.dto.TaskCreateRequest;
 import com.seolstudy.backend.domain.task.dto.TaskCreateResponse;
 import com.seolstudy.backend.domain.task.dto.TaskListBySubjectResponse;
@@ -27,7 +32,7 @@ public class TaskController {
 
     @Operation(summary = "오늘 할일 전체 조회", description = "오늘 할일 전체를 조회합니다.")
     @GetMapping
-    @PreAuthorize("hasAnyRole('MENTEE', 'MENTOR')")
+    @PreAuthorize("hasAnyRole('MENTEE', 'MENTOR') and @mentoringAccess.canAccessMentee(authentication, #menteeId)")
     public CommonResponse<TaskListResponse> getTasks(
             @RequestParam("mentee_id") Long menteeId,
             @RequestParam(value = "date", required = false) String date
@@ -39,7 +44,7 @@ public class TaskController {
     @Operation(summary = "특정 과목 할일 조회", description = "특정 과목 할일을 조회합니다.")
 
     @GetMapping("/subject")
-    @PreAuthorize("hasAnyRole('MENTEE', 'MENTOR')")
+    @PreAuthorize("hasAnyRole('MENTEE', 'MENTOR') and @mentoringAccess.canAccessMentee(authentication, #menteeId)")
     public CommonResponse<TaskListBySubjectResponse> getTasksBySubject(
             @RequestParam("mentee_id") Long menteeId,
             @RequestParam(value = "date", required = false) String date,
@@ -59,6 +64,17 @@ public class TaskController {
         return CommonResponse.of(SuccessStatus.CREATED, response);
     }
 
+    @Operation(summary = "할일 일괄 추가",
+            description = "주간 계획처럼 여러 멘티의 할일을 한 번에 추가합니다. 실패한 항목은 errors에 요청 순서(index)와 함께 반환됩니다.")
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('MENTOR')")
+    public CommonResponse<TaskBulkCreateResponse> createTasks(
+            @Valid @RequestBody TaskBulkCreateRequest request
+    ) {
+        TaskBulkCreateResponse response = taskService.createTasks(request);
+        return CommonResponse.of(SuccessStatus.CREATED, response);
+    }
+
     @Operation(summary = "오늘 할일 첨부파일 업로드", description = "PDF 또는 이미지를 업로드합니다.")
     @PostMapping(value = "/{task_id}/attachment", consumes = "multipart/form-data")
     @PreAuthorize("hasRole('MENTOR')")
@@ -70,6 +86,29 @@ public class TaskController {
         return CommonResponse.of(SuccessStatus.CREATED, response);
     }
 
+    @Operation(summary = "오늘 할일 첨부파일 업로드 URL 발급",
+            description = "저장소에 직접 업로드할 URL과 업로드 토큰을 발급합니다. 업로드 후 확정 API를 호출해야 반영됩니다.")
+    @PostMapping("/{task_id}/attachment/upload-url")
+    @PreAuthorize("hasRole('MENTOR')")
+    public CommonResponse<TaskAttachmentUploadUrlResponse> createAttachmentUploadUrl(
+            @PathVariable("task_id") Long taskId,
+            @Valid @RequestBody TaskAttachmentUploadUrlRequest request
+    ) {
+        TaskAttachmentUploadUrlResponse response = taskService.createAttachmentUploadUrl(taskId, request);
+        return CommonResponse.onSuccess(response);
+    }
+
+    @Operation(summary = "오늘 할일 첨부파일 업로드 확정", description = "직접 업로드한 첨부파일을 과제에 반영합니다.")
+    @PostMapping("/{task_id}/attachment/confirm")
+    @PreAuthorize("hasRole('MENTOR')")
+    public CommonResponse<TaskAttachmentResponse> confirmAttachmentUpload(
+            @PathVariable("task_id") Long taskId,
+            @Valid @RequestBody TaskAttachmentConfirmRequest request
+    ) {
+        TaskAttachmentResponse response = taskService.confirmAttachmentUpload(taskId, request);
+        return CommonResponse.of(SuccessStatus.CREATED, response);
+    }
+
     @Operation(summary = "과제 제출", description = "완료 인증 사진을 제출합니다.")
     @PostMapping(value = "/{task_id}/submit", consumes = "multipart/form-data")
     @PreAuthorize("hasRole('MENTEE')")
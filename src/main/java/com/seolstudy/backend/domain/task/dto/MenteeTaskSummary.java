@@ -0,0 +1,23 @@
+package com.seolstudy.backend.domain.task.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 멘티별 과제 집계 (멘토 대시보드용 JPQL projection)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class MenteeTaskSummary {
+
+    private Long menteeId;
+    private Long todayTaskCount;
+    private Long todayCompletedCount;
+    private Long awaitingFeedbackCount;
+
+    public static MenteeTaskSummary empty(Long menteeId) {
+        return new MenteeTaskSummary(menteeId, 0L, 0L, 0L);
+    }
+}
@@ -0,0 +1,17 @@
+package com.seolstudy.backend.domain.task.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskAttachmentConfirmRequest {
+
+    @NotBlank(message = "업로드 토큰은 필수입니다.")
+    private String uploadToken;
+}
@@ -0,0 +1,26 @@
+package com.seolstudy.backend.domain.task.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskAttachmentUploadUrlRequest {
+
+    @NotBlank(message = "파일 이름은 필수입니다.")
+    private String fileName;
+
+    @NotBlank(message = "파일 형식은 필수입니다.")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long contentLength;
+}
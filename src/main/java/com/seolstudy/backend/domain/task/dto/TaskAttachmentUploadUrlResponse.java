@@ -0,0 +1,33 @@
+package com.seolstudy.backend.domain.task.dto;
+
+import com.seolstudy.backend.global.storage.DirectUploadSlot;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class TaskAttachmentUploadUrlResponse {
+
+    private Long taskId;
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> headers;
+    private LocalDateTime expiresAt;
+    private String uploadToken;
+
+    public static TaskAttachmentUploadUrlResponse of(Long taskId, DirectUploadSlot slot) {
+        return TaskAttachmentUploadUrlResponse.builder()
+                .taskId(taskId)
+                .uploadUrl(slot.getUpload().getUrl())
+                .method(slot.getUpload().getMethod())
+                .headers(slot.getUpload().getHeaders())
+                .expiresAt(LocalDateTime.ofInstant(slot.getUpload().getExpiresAt(), ZoneId.systemDefault()))
+                .uploadToken(slot.getUploadToken())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.seolstudy.backend.domain.task.dto;
+
+import com.seolstudy.backend.global.payload.status.ErrorStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 과제 일괄 생성 실패 항목 (index는 요청 목록 기준 0부터)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class TaskBulkCreateError {
+
+    private Integer index;
+    private String code;
+    private String message;
+
+    public static TaskBulkCreateError of(int index, ErrorStatus status) {
+        return new TaskBulkCreateError(index, status.getCode(), status.getMessage());
+    }
+
+    public static TaskBulkCreateError of(int index, ErrorStatus status, String message) {
+        return new TaskBulkCreateError(index, status.getCode(), message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.seolstudy.backend.domain.task.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 과제 일괄 생성 요청
+ * 각 항목은 서비스에서 개별 검증해 실패한 항목만 오류로 돌려준다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBulkCreateRequest {
+
+    @NotEmpty(message = "생성할 과제는 1개 이상이어야 합니다.")
+    @Size(max = 500, message = "한 번에 최대 500개까지 생성할 수 있습니다.")
+    private List<TaskCreateRequest> tasks;
+}
@@ -0,0 +1,17 @@
+package com.seolstudy.backend.domain.task.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class TaskBulkCreateResponse {
+
+    private Integer requestedCount;
+    private Integer createdCount;
+    private List<TaskCreateResponse> created;
+    private List<TaskBulkCreateError> errors;
+}
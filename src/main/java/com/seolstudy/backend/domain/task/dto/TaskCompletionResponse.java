@@ -1,6 +1,7 @@
 package com.seolstudy.backend.domain.task.dto;
 
 import com.seolstudy.backend.domain.task.entity.TaskCompletion;
+import com.seolstudy.backend.global.storage.ImageVariant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,6 +16,9 @@ public class TaskCompletionResponse {
     private Long completionId;
     private Long taskId;
     private String completionPhotoUrl;
+    // 업로드 후 비동기로 생성되는 크기 제한 이미지 (생성이 기록되기 전이나 생성할 수 없는 형식이면 원본 URL)
+    private String displayPhotoUrl;
+    private String thumbnailUrl;
     private Boolean isCompleted;
     private LocalDateTime completedAt;
     private LocalDateTime createdAt;
@@ -24,9 +28,17 @@ public class TaskCompletionResponse {
                 .completionId(completion.getId())
                 .taskId(completion.getTask().getId())
                 .completionPhotoUrl(completion.getCompletionPhotoUrl())
+                .displayPhotoUrl(variantUrlOrOriginal(completion, ImageVariant.DISPLAY))
+                .thumbnailUrl(variantUrlOrOriginal(completion, ImageVariant.THUMBNAIL))
                 .isCompleted(completion.getIsCompleted())
                 .completedAt(completion.getCompletedAt())
                 .createdAt(completion.getCreatedAt())
                 .build();
     }
+
+    private static String variantUrlOrOriginal(TaskCompletion completion, ImageVariant variant) {
+        return completion.hasImageVariants()
+                ? variant.urlOf(completion.getCompletionPhotoUrl())
+                : completion.getCompletionPhotoUrl();
+    }
 }
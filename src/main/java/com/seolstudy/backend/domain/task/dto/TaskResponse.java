@@ -1,7 +1,6 @@
 package com.seolstudy.backend.domain.task.dto;
 
 import com.seolstudy.backend.domain.task.entity.LearningMaterialType;
-import com.seolstudy.backend.domain.task.entity.Task;
 import com.seolstudy.backend.domain.task.entity.TaskType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -31,25 +30,4 @@ public class TaskResponse {
     private String completionPhotoUrl;
     private LocalDateTime completedAt;
     private Boolean hasFeedback;
-
-    public static TaskResponse from(Task task, String subjectName, String subjectCode, Boolean hasFeedback) {
-        return TaskResponse.builder()
-                .taskId(task.getId())
-                .subjectName(subjectName)
-                .subjectCode(subjectCode)
-                .taskName(task.getTaskName())
-                .taskDate(task.getTaskDate())
-                .taskGoal(task.getTaskGoal())
-                .taskType(task.getTaskType())
-                .learningMaterialType(task.getLearningMaterialType())
-                .pdfFileUrl(task.getPdfFileUrl())
-                .columnContent(task.getColumnContent())
-                .comment(task.getComment())
-                .isCompleted(false)
-                .studyTime(null)
-                .completionPhotoUrl(null)
-                .completedAt(null)
-                .hasFeedback(hasFeedback)
-                .build();
-    }
 }
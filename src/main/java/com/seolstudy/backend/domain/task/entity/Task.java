@@ -2,13 +2,17 @@ package com.seolstudy.backend.domain.task.entity;
 
 import com.seolstudy.backend.domain.subject.entity.Subject;
 import com.seolstudy.backend.domain.user.entity.User;
+import com.seolstudy.backend.global.persistence.IdSequence;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = {
+        @Index(name = "idx_task_mentee_date_subject", columnList = "mentee_id, task_date, subject_id"),
+        @Index(name = "idx_task_pdf_file_url", columnList = "pdf_file_url")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -16,7 +20,9 @@ import java.time.LocalDateTime;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id_generator")
+    @TableGenerator(name = "task_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "task", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "task_id")
     private Long id;
 
@@ -1,5 +1,6 @@
 package com.seolstudy.backend.domain.task.entity;
 
+import com.seolstudy.backend.global.persistence.IdSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -10,7 +11,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "task_completion")
+@Table(name = "task_completion", indexes = {
+        @Index(name = "idx_task_completion_task", columnList = "task_id"),
+        @Index(name = "idx_task_completion_photo_url", columnList = "completion_photo_url")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -18,7 +22,9 @@ import java.time.LocalDateTime;
 public class TaskCompletion {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_completion_id_generator")
+    @TableGenerator(name = "task_completion_id_generator", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "task_completion", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "completion_id")
     private Long id;
 
@@ -32,6 +38,10 @@ public class TaskCompletion {
     @Column(name = "completion_photo_url", nullable = false)
     private String completionPhotoUrl;
 
+    // 파생 이미지(표시용/썸네일)가 생성되었는지 (null이면 아직 생성되지 않음)
+    @Column(name = "variants_ready")
+    private Boolean variantsReady;
+
     @Column(name = "is_completed", nullable = false)
     private Boolean isCompleted;
 
@@ -59,9 +69,14 @@ public class TaskCompletion {
         updatedAt = LocalDateTime.now();
     }
 
+    public boolean hasImageVariants() {
+        return Boolean.TRUE.equals(variantsReady);
+    }
+
     public void overwriteCompletion(String completionPhotoUrl, LocalDateTime completedAt) {
-        if (completionPhotoUrl != null) {
+        if (completionPhotoUrl != null && !completionPhotoUrl.equals(this.completionPhotoUrl)) {
             this.completionPhotoUrl = completionPhotoUrl;
+            this.variantsReady = Boolean.FALSE;
         }
         if (completedAt != null) {
             this.completedAt = completedAt;
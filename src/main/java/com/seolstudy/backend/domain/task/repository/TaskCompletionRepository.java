@@ -2,10 +2,23 @@ package com.seolstudy.backend.domain.task.repository;
 
 import com.seolstudy.backend.domain.task.entity.TaskCompletion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TaskCompletionRepository extends JpaRepository<TaskCompletion, Long> {
     boolean existsByTaskId(Long taskId);
     Optional<TaskCompletion> findByTaskId(Long taskId);
+    long countByCompletionPhotoUrl(String completionPhotoUrl);
+
+    @Query("SELECT DISTINCT tc.completionPhotoUrl FROM TaskCompletion tc WHERE tc.completionPhotoUrl IN :urls")
+    List<String> findCompletionPhotoUrlsIn(@Param("urls") Collection<String> urls);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TaskCompletion tc SET tc.variantsReady = true WHERE tc.completionPhotoUrl = :photoUrl")
+    int markVariantsReady(@Param("photoUrl") String photoUrl);
 }
@@ -1,5 +1,7 @@
 package com.seolstudy.backend.domain.task.repository;
 
+import com.seolstudy.backend.domain.task.dto.MenteeTaskSummary;
+import com.seolstudy.backend.domain.task.dto.TaskResponse;
 import com.seolstudy.backend.domain.task.entity.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,24 +9,78 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
     /**
-     * 특정 멘티의 특정 날짜 과제 목록 조회
+     * 과제별 최신 완료 기록만 LEFT JOIN (task_id는 유니크 제약이 아니므로 이전 중복 행이 있어도 과제당 한 행)
      */
-    @Query("SELECT t FROM Task t WHERE t.mentee.id = :menteeId AND t.taskDate = :taskDate ORDER BY t.createdAt ASC")
-    List<Task> findByMenteeIdAndTaskDate(@Param("menteeId") Long menteeId, @Param("taskDate") LocalDate taskDate);
+    String LATEST_COMPLETION_JOIN = "LEFT JOIN TaskCompletion tc ON tc.task = t "
+            + "AND tc.id = (SELECT MAX(c.id) FROM TaskCompletion c WHERE c.task = t) ";
 
     /**
-     * 특정 멘티의 특정 날짜, 특정 과목 과제 목록 조회
+     * 과제 응답 DTO projection (과목, 완료 여부, 피드백 작성 여부 포함)
      */
-    @Query("SELECT t FROM Task t WHERE t.mentee.id = :menteeId AND t.taskDate = :taskDate AND t.subject.id = :subjectId ORDER BY t.createdAt ASC")
-    List<Task> findByMenteeIdAndTaskDateAndSubjectId(
+    String TASK_RESPONSE_SELECT = "SELECT new com.seolstudy.backend.domain.task.dto.TaskResponse("
+            + "t.id, s.subjectName, s.subjectCode, t.taskName, t.taskDate, t.taskGoal, t.taskType, "
+            + "t.learningMaterialType, t.pdfFileUrl, t.columnContent, t.comment, "
+            + "COALESCE(tc.isCompleted, false), tc.studyTime, tc.completionPhotoUrl, tc.completedAt, "
+            + "CASE WHEN EXISTS (SELECT f.id FROM Feedback f WHERE f.task = t) THEN true ELSE false END) "
+            + "FROM Task t JOIN t.subject s " + LATEST_COMPLETION_JOIN;
+
+    /**
+     * 특정 멘티의 특정 날짜 과제 응답 목록 조회
+     */
+    @Query(TASK_RESPONSE_SELECT
+            + "WHERE t.mentee.id = :menteeId AND t.taskDate = :taskDate ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskResponse> findResponsesByMenteeIdAndTaskDate(
+            @Param("menteeId") Long menteeId,
+            @Param("taskDate") LocalDate taskDate
+    );
+
+    /**
+     * 특정 멘티의 특정 날짜, 특정 과목 과제 응답 목록 조회
+     */
+    @Query(TASK_RESPONSE_SELECT
+            + "WHERE t.mentee.id = :menteeId AND t.taskDate = :taskDate AND s.id = :subjectId "
+            + "ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskResponse> findResponsesByMenteeIdAndTaskDateAndSubjectId(
             @Param("menteeId") Long menteeId,
             @Param("taskDate") LocalDate taskDate,
             @Param("subjectId") Long subjectId
     );
-}
\ No newline at end of file
+
+    /**
+     * 멘티별 과제 집계 (멘토 대시보드)
+     * 기준 날짜의 과제 수/완료 수와, fromDate~기준 날짜 사이에 완료했지만 피드백이 없는 과제 수를 멘티별 GROUP BY 한 번으로 계산
+     * 기간 밖의 과제는 읽지 않으며, 기간 안에 과제가 하나도 없는 멘티는 결과에 포함되지 않는다.
+     */
+    @Query("SELECT new com.seolstudy.backend.domain.task.dto.MenteeTaskSummary("
+            + "t.mentee.id, "
+            + "SUM(CASE WHEN t.taskDate = :taskDate THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN t.taskDate = :taskDate AND tc.isCompleted = true THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN tc.isCompleted = true "
+            + "AND NOT EXISTS (SELECT f.id FROM Feedback f WHERE f.task = t) THEN 1 ELSE 0 END)) "
+            + "FROM Task t " + LATEST_COMPLETION_JOIN
+            + "WHERE t.mentee.id IN :menteeIds AND t.taskDate BETWEEN :fromDate AND :taskDate "
+            + "GROUP BY t.mentee.id")
+    List<MenteeTaskSummary> summarizeByMenteeIds(
+            @Param("menteeIds") Collection<Long> menteeIds,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("taskDate") LocalDate taskDate
+    );
+
+    /**
+     * 특정 첨부파일 URL을 참조하는 과제 수
+     */
+    long countByPdfFileUrl(String pdfFileUrl);
+
+    /**
+     * 주어진 URL 중 과제가 참조 중인 첨부파일 URL 조회 (업로드 정리용)
+     */
+    @Query("SELECT DISTINCT t.pdfFileUrl FROM Task t WHERE t.pdfFileUrl IN :urls")
+    List<String> findPdfFileUrlsIn(@Param("urls") Collection<String> urls);
+}
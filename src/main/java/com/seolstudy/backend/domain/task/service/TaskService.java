@@ -1,8 +1,7 @@
 package com.seolstudy.backend.domain.task.service;
 
-import com.seolstudy.backend.domain.feedback.repository.FeedbackRepository;
+import com.seolstudy.backend.domain.subject.SubjectCatalog;
 import com.seolstudy.backend.domain.subject.entity.Subject;
-import com.seolstudy.backend.domain.subject.repository.SubjectRepository;
 import com.seolstudy.backend.domain.task.dto.*;
 import com.seolstudy.backend.domain.task.entity.Task;
 import com.seolstudy.backend.domain.task.entity.TaskCompletion;
@@ -12,8 +11,14 @@ import com.seolstudy.backend.domain.user.entity.User;
 import com.seolstudy.backend.domain.user.repository.UserRepository;
 import com.seolstudy.backend.global.exception.GeneralException;
 import com.seolstudy.backend.global.payload.status.ErrorStatus;
-import com.seolstudy.backend.global.storage.LocalFileStorage;
+import com.seolstudy.backend.global.storage.DeferredFileDeleter;
+import com.seolstudy.backend.global.storage.DirectUploadSlot;
+import com.seolstudy.backend.global.storage.FileUploadService;
+import com.seolstudy.backend.global.storage.ImageVariantsGeneratedEvent;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,7 +27,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,11 +42,12 @@ import java.util.stream.Collectors;
 public class TaskService {
 
     private final TaskRepository taskRepository;
-    private final SubjectRepository subjectRepository;
+    private final SubjectCatalog subjectCatalog;
     private final UserRepository userRepository;
-    private final FeedbackRepository feedbackRepository;
     private final TaskCompletionRepository taskCompletionRepository;
-    private final LocalFileStorage localFileStorage;
+    private final FileUploadService fileUploadService;
+    private final DeferredFileDeleter deferredFileDeleter;
+    private final Validator validator;
 
     /**
      * 오늘 할일 전체 조회
@@ -45,21 +57,10 @@ public class TaskService {
         validateMenteeExists(menteeId);
 
         // 날짜 파싱 (미입력 시 오늘)
-        LocalDate targetDate = parseDate(dateStr);
-
-        // 과제 조회
-        List<Task> tasks = taskRepository.findByMenteeIdAndTaskDate(menteeId, targetDate);
-
-        // DTO 변환
-        List<TaskResponse> taskResponses = tasks.stream()
-                .map(task -> {
-                    Subject subject = task.getSubject();
-                    String subjectName = subject.getSubjectName();
-                    String subjectCode = subject.getSubjectCode();
-                    Boolean hasFeedback = feedbackRepository.existsByTaskId(task.getId());
-                    return TaskResponse.from(task, subjectName, subjectCode, hasFeedback);
-                })
-                .collect(Collectors.toList());
+        LocalDate targetDate = parseTaskDate(dateStr);
+
+        // 과제 조회 (과목, 완료 여부, 피드백 여부 포함 projection)
+        List<TaskResponse> taskResponses = taskRepository.findResponsesByMenteeIdAndTaskDate(menteeId, targetDate);
 
         return TaskListResponse.builder()
                 .plannerDate(targetDate)
@@ -75,23 +76,15 @@ public class TaskService {
         validateMenteeExists(menteeId);
 
         // 날짜 파싱
-        LocalDate targetDate = parseDate(dateStr);
+        LocalDate targetDate = parseTaskDate(dateStr);
 
-        Subject subject = subjectRepository.findBySubjectCode(subjectCode)
+        Subject subject = subjectCatalog.findByCode(subjectCode)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.SUBJECT_NOT_FOUND));
-        Long subjectId = subject.getId();
         String subjectName = subject.getSubjectName();
 
-        // 과제 조회
-        List<Task> tasks = taskRepository.findByMenteeIdAndTaskDateAndSubjectId(menteeId, targetDate, subjectId);
-
-        // DTO 변환
-        List<TaskResponse> taskResponses = tasks.stream()
-                .map(task -> {
-                    Boolean hasFeedback = feedbackRepository.existsByTaskId(task.getId());
-                    return TaskResponse.from(task, subjectName, subjectCode, hasFeedback);
-                })
-                .collect(Collectors.toList());
+        // 과제 조회 (전체 조회와 같은 projection)
+        List<TaskResponse> taskResponses = taskRepository.findResponsesByMenteeIdAndTaskDateAndSubjectId(
+                menteeId, targetDate, subject.getId());
 
         return TaskListBySubjectResponse.builder()
                 .plannerDate(targetDate)
@@ -111,11 +104,11 @@ public class TaskService {
         User mentor = getUserOrThrow(request.getMentorId());
 
         // 과목 조회
-        Subject subject = subjectRepository.findBySubjectCode(request.getSubjectCode())
+        Subject subject = subjectCatalog.findByCode(request.getSubjectCode())
                 .orElseThrow(() -> new GeneralException(ErrorStatus.SUBJECT_NOT_FOUND));
 
         // 날짜 파싱
-        LocalDate taskDate = parseDate(request.getTaskDate());
+        LocalDate taskDate = parseTaskDate(request.getTaskDate());
 
         // Task 엔티티 생성
         Task task = Task.builder()
@@ -140,6 +133,111 @@ public class TaskService {
         return TaskCreateResponse.from(savedTask, subject.getSubjectName(), request.getSubjectCode());
     }
 
+    /**
+     * 과제 일괄 추가 (주간 계획 배정)
+     * 참조하는 사용자는 한 번의 IN 쿼리로, 과목은 카탈로그에서 조회하고,
+     * 검증을 통과한 항목만 하나의 트랜잭션에서 저장한다 (pooled ID라 INSERT는 flush 시 JDBC 배치로 묶인다).
+     * 실패한 항목은 요청 목록의 index와 함께 errors로 돌려준다.
+     */
+    @Transactional
+    public TaskBulkCreateResponse createTasks(TaskBulkCreateRequest request) {
+        List<TaskCreateRequest> items = request.getTasks();
+
+        Set<Long> userIds = new HashSet<>();
+        for (TaskCreateRequest item : items) {
+            if (item == null) {
+                continue;
+            }
+            if (item.getMenteeId() != null) {
+                userIds.add(item.getMenteeId());
+            }
+            if (item.getMentorId() != null) {
+                userIds.add(item.getMentorId());
+            }
+        }
+        Map<Long, User> users = userIds.isEmpty()
+                ? Map.of()
+                : userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Task> tasks = new ArrayList<>();
+        List<TaskCreateRequest> validItems = new ArrayList<>();
+        List<TaskBulkCreateError> errors = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            TaskCreateRequest item = items.get(i);
+            Optional<TaskBulkCreateError> error = validateBulkItem(i, item, users);
+            if (error.isPresent()) {
+                errors.add(error.get());
+                continue;
+            }
+
+            tasks.add(Task.builder()
+                    .mentee(users.get(item.getMenteeId()))
+                    .mentor(users.get(item.getMentorId()))
+                    .subject(subjectCatalog.findByCode(item.getSubjectCode()).orElseThrow())
+                    .taskDate(LocalDate.parse(item.getTaskDate(), DateTimeFormatter.ISO_LOCAL_DATE))
+                    .taskName(item.getTaskName())
+                    .taskGoal(item.getTaskGoal())
+                    .taskType(item.getTaskType())
+                    .learningMaterialType(item.getLearningMaterialType())
+                    .pdfFileUrl(null)
+                    .columnContent(item.getColumnContent())
+                    .comment(item.getComment())
+                    .isFixed(Boolean.FALSE)
+                    .build());
+            validItems.add(item);
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+
+        List<TaskCreateResponse> created = new ArrayList<>();
+        for (int i = 0; i < savedTasks.size(); i++) {
+            Task task = savedTasks.get(i);
+            created.add(TaskCreateResponse.from(task,
+                    task.getSubject().getSubjectName(), validItems.get(i).getSubjectCode()));
+        }
+
+        return TaskBulkCreateResponse.builder()
+                .requestedCount(items.size())
+                .createdCount(created.size())
+                .created(created)
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * 일괄 생성 항목 검증 (Bean Validation 후 참조 대상 존재 여부 확인)
+     */
+    private Optional<TaskBulkCreateError> validateBulkItem(int index, TaskCreateRequest item, Map<Long, User> users) {
+        if (item == null) {
+            return Optional.of(TaskBulkCreateError.of(index, ErrorStatus.BAD_REQUEST));
+        }
+
+        Set<ConstraintViolation<TaskCreateRequest>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return Optional.of(TaskBulkCreateError.of(index, ErrorStatus.BAD_REQUEST, message));
+        }
+        if (item.getLearningMaterialType() == null) {
+            return Optional.of(TaskBulkCreateError.of(index, ErrorStatus.BAD_REQUEST, "학습 자료 타입은 필수입니다."));
+        }
+        if (!users.containsKey(item.getMenteeId()) || !users.containsKey(item.getMentorId())) {
+            return Optional.of(TaskBulkCreateError.of(index, ErrorStatus.MEMBER_NOT_FOUND));
+        }
+        if (subjectCatalog.findByCode(item.getSubjectCode()).isEmpty()) {
+            return Optional.of(TaskBulkCreateError.of(index, ErrorStatus.SUBJECT_NOT_FOUND));
+        }
+        try {
+            LocalDate.parse(item.getTaskDate(), DateTimeFormatter.ISO_LOCAL_DATE);
+        } catch (DateTimeParseException e) {
+            return Optional.of(TaskBulkCreateError.of(index, ErrorStatus.INVALID_TASK_DATE));
+        }
+        return Optional.empty();
+    }
+
     /**
      * 오늘 할일 첨부파일 업로드
      */
@@ -148,17 +246,54 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.TASK_NOT_FOUND));
 
-        String fileUrl = localFileStorage.storeTaskAttachment(file);
+        String fileUrl = fileUploadService.storeTaskAttachment(file);
+        deferredFileDeleter.deleteOnRollback(fileUrl, fileUploadService::deleteTaskAttachment);
+        return replaceAttachment(task, fileUrl);
+    }
+
+    /**
+     * 오늘 할일 첨부파일 직접 업로드 URL 발급
+     * 클라이언트는 발급된 URL로 저장소에 바로 올린 뒤 confirmAttachmentUpload로 확정한다.
+     */
+    public TaskAttachmentUploadUrlResponse createAttachmentUploadUrl(Long taskId, TaskAttachmentUploadUrlRequest request) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new GeneralException(ErrorStatus.TASK_NOT_FOUND);
+        }
+
+        DirectUploadSlot slot = fileUploadService.prepareTaskAttachmentUpload(
+                attachmentUploadOwner(taskId), request.getFileName(), request.getContentType(), request.getContentLength());
+        return TaskAttachmentUploadUrlResponse.of(taskId, slot);
+    }
+
+    /**
+     * 오늘 할일 첨부파일 직접 업로드 확정
+     * 확정 전에 실패한 업로드는 참조되지 않으므로 UploadSweeper가 정리한다.
+     */
+    @Transactional
+    public TaskAttachmentResponse confirmAttachmentUpload(Long taskId, TaskAttachmentConfirmRequest request) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.TASK_NOT_FOUND));
+
+        String fileUrl = fileUploadService.confirmTaskAttachmentUpload(
+                attachmentUploadOwner(taskId), request.getUploadToken());
+        return replaceAttachment(task, fileUrl);
+    }
+
+    private TaskAttachmentResponse replaceAttachment(Task task, String fileUrl) {
         String oldFileUrl = task.getPdfFileUrl();
         task.updateAttachmentUrl(fileUrl);
 
         if (oldFileUrl != null && !oldFileUrl.equals(fileUrl)) {
-            localFileStorage.deleteTaskAttachment(oldFileUrl);
+            deferredFileDeleter.deleteAfterCommit(oldFileUrl, fileUploadService::deleteTaskAttachment);
         }
 
         return TaskAttachmentResponse.of(task.getId(), fileUrl);
     }
 
+    private String attachmentUploadOwner(Long taskId) {
+        return "task:" + taskId;
+    }
+
     /**
      * 과제 제출
      */
@@ -168,7 +303,8 @@ public class TaskService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.TASK_NOT_FOUND));
 
         MultipartFile photo = getSingleCompletionPhoto(completionPhoto);
-        String photoUrl = localFileStorage.storeTaskCompletionImage(photo);
+        String photoUrl = fileUploadService.storeTaskCompletionImage(photo);
+        deferredFileDeleter.deleteOnRollback(photoUrl, fileUploadService::deleteTaskCompletionImage);
         LocalDateTime completedAt = LocalDateTime.now();
 
         TaskCompletion existingCompletion = taskCompletionRepository.findByTaskId(taskId).orElse(null);
@@ -189,15 +325,25 @@ public class TaskService {
 
         TaskCompletion savedCompletion = taskCompletionRepository.save(completion);
         if (oldPhotoUrl != null && !oldPhotoUrl.equals(photoUrl)) {
-            localFileStorage.deleteTaskCompletionImage(oldPhotoUrl);
+            deferredFileDeleter.deleteAfterCommit(oldPhotoUrl, fileUploadService::deleteTaskCompletionImage);
         }
         return TaskCompletionResponse.from(savedCompletion);
     }
 
     /**
-     * 날짜 문자열 파싱 (yyyy-MM-dd)
+     * 과제 완료 사진의 파생 이미지 생성 기록 (이후 응답에서 파생 이미지 URL 사용)
+     */
+    @EventListener
+    @Transactional
+    public void onImageVariantsGenerated(ImageVariantsGeneratedEvent event) {
+        taskCompletionRepository.markVariantsReady(event.getOriginalUrl());
+    }
+
+    /**
+     * 과제 날짜 문자열 파싱 (yyyy-MM-dd, 없으면 오늘)
+     * 과제 날짜를 받는 다른 도메인(멘토 대시보드)도 같은 규칙과 오류 코드를 쓰도록 공개한다.
      */
-    private LocalDate parseDate(String dateStr) {
+    public static LocalDate parseTaskDate(String dateStr) {
         if (dateStr == null || dateStr.isBlank()) {
             return LocalDate.now();
         }
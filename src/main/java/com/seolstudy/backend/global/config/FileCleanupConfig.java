@@ -0,0 +1,37 @@
+package com.seolstudy.backend.global.config;
+
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+@EnableScheduling
+public class FileCleanupConfig {
+
+    /**
+     * 교체/롤백된 업로드 파일 삭제 전용 executor
+     * 삭제는 요청 지연에 포함되지 않도록 트랜잭션 완료 후 이 스레드에서 수행한다.
+     * 대기열이 가득 차 버려진 삭제는 UploadSweeper가 나중에 정리한다.
+     * 삭제는 파일/DB I/O 대기가 대부분이므로 가상 스레드 모드에서는 가상 스레드로 실행한다.
+     */
+    @Bean
+    public Executor fileCleanupExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(virtualThreads);
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("file-cleanup-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("파일 삭제 대기열 초과로 작업을 건너뜁니다 (주기 정리에서 처리)"));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,104 @@
+package com.seolstudy.backend.global.config;
+
+import com.seolstudy.backend.global.storage.FileStorage;
+import com.seolstudy.backend.global.storage.LocalFileStorage;
+import com.seolstudy.backend.global.storage.S3FileStorage;
+import com.seolstudy.backend.global.storage.UploadUrlSigner;
+import java.net.URI;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * 업로드 저장소 선택 (file.storage.type: local | s3)
+ * 여러 앱 노드를 로드밸런서 뒤에 둘 때는 s3로 두어 모든 노드가 같은 버킷을 공유하게 한다.
+ * endpoint를 지정하면 MinIO 등 S3 호환 스토리지를 사용할 수 있다.
+ */
+@Configuration
+public class FileStorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+    public LocalFileStorage localFileStorage(
+            @Value("${file.upload-dir:uploads}") String uploadDir,
+            UploadUrlSigner uploadUrlSigner
+    ) {
+        return new LocalFileStorage(uploadDir, uploadUrlSigner);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    static class S3StorageConfig {
+
+        @Value("${file.storage.s3.endpoint:}")
+        private String endpoint;
+
+        @Value("${file.storage.s3.region:ap-northeast-2}")
+        private String region;
+
+        @Value("${file.storage.s3.access-key:}")
+        private String accessKey;
+
+        @Value("${file.storage.s3.secret-key:}")
+        private String secretKey;
+
+        @Value("${file.storage.s3.path-style-access:false}")
+        private boolean pathStyleAccess;
+
+        @Bean(destroyMethod = "close")
+        public S3Client s3Client() {
+            S3ClientBuilder builder = S3Client.builder()
+                    .region(Region.of(region))
+                    .credentialsProvider(credentialsProvider())
+                    .forcePathStyle(pathStyleAccess);
+            if (StringUtils.hasText(endpoint)) {
+                builder.endpointOverride(URI.create(endpoint));
+            }
+            return builder.build();
+        }
+
+        @Bean(destroyMethod = "close")
+        public S3Presigner s3Presigner() {
+            S3Presigner.Builder builder = S3Presigner.builder()
+                    .region(Region.of(region))
+                    .credentialsProvider(credentialsProvider())
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(pathStyleAccess).build());
+            if (StringUtils.hasText(endpoint)) {
+                builder.endpointOverride(URI.create(endpoint));
+            }
+            return builder.build();
+        }
+
+        @Bean
+        public FileStorage s3FileStorage(
+                S3Client s3Client,
+                S3Presigner s3Presigner,
+                @Value("${file.storage.s3.bucket}") String bucket,
+                @Value("${file.storage.s3.part-size:8MB}") DataSize partSize
+        ) {
+            return new S3FileStorage(s3Client, s3Presigner, bucket, (int) partSize.toBytes());
+        }
+
+        /**
+         * 키가 설정되지 않으면 환경 변수/인스턴스 프로파일 등 기본 자격 증명 체인을 사용
+         */
+        private AwsCredentialsProvider credentialsProvider() {
+            if (StringUtils.hasText(accessKey)) {
+                return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+            }
+            return DefaultCredentialsProvider.create();
+        }
+    }
+}
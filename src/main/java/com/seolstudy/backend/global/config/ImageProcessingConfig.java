@@ -0,0 +1,35 @@
+package com.seolstudy.backend.global.config;
+
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+public class ImageProcessingConfig {
+
+    /**
+     * 업로드 이미지 축소/썸네일 생성 전용 executor
+     * 요청 스레드를 막지 않도록 큐가 가득 차면 작업을 버린다 (원본은 이미 저장되어 있음).
+     * 디코딩/축소는 CPU 작업이라 가상 스레드 모드에서도 크기가 고정된 플랫폼 스레드 풀을 유지한다.
+     */
+    @Bean
+    public Executor imageProcessingExecutor(
+            @Value("${file.image-processing.threads:2}") int threads,
+            @Value("${file.image-processing.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("이미지 처리 대기열 초과로 작업을 건너뜁니다"));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
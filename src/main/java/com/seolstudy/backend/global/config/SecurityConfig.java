@@ -1,23 +1,37 @@
 package com.seolstudy.backend.global.config;
 
 import com.seolstudy.backend.global.security.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final List<IpAddressMatcher> internalAllowedAddresses;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                          @Value("${metrics.internal-allowed-addresses:127.0.0.1,::1}") String[] internalAllowedAddresses) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.internalAllowedAddresses = Arrays.stream(internalAllowedAddresses)
+                .map(String::trim)
+                .filter(address -> !address.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
     }
 
     @Bean
@@ -30,6 +44,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        // 서명된 단기 URL로 권한을 확인하는 직접 업로드
+                        .requestMatchers(HttpMethod.PUT, "/api/uploads/direct").permitAll()
+                        // 내부 지표는 역할이 아니라 접속 주소로 제한 (기본은 같은 호스트에서만)
+                        .requestMatchers("/internal/**").access((authentication, context) ->
+                                new AuthorizationDecision(isInternalAddress(context.getRequest())))
                         .anyRequest().authenticated()
                 )
                 // ✅ JWT 필터를 UsernamePasswordAuthenticationFilter 앞에 끼움
@@ -40,6 +59,10 @@ public class SecurityConfig {
                 .build();
     }
 
+    private boolean isInternalAddress(HttpServletRequest request) {
+        return internalAllowedAddresses.stream().anyMatch(matcher -> matcher.matches(request));
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -2,22 +2,64 @@ package com.seolstudy.backend.global.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.PathResourceResolver;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.regex.Pattern;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    /**
+     * 콘텐츠 주소 blob 파일명 (SHA-256 digest)
+     */
+    private static final Pattern DIGEST_FILE_NAME = Pattern.compile("^[0-9a-f]{64}$");
+
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
+    @Value("${file.storage.type:local}")
+    private String storageType;
+
+    /**
+     * 업로드 파일은 UUID/digest 파일명으로 한 번 저장되면 바뀌지 않으므로 장기 캐시한다.
+     * 인증이 필요한 리소스라 공유 캐시(CDN/프록시)에는 저장하지 않도록 private으로 둔다.
+     * Range 요청(206)은 ResourceHttpRequestHandler가 기본 지원한다.
+     * 업로드 파일은 삭제될 수 있으므로 리소스 조회 결과는 캐시하지 않는다 (resourceChain(false)).
+     * 오브젝트 스토리지를 쓰면 UploadRedirectController가 presigned URL로 보낸다.
+     */
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        if (!"local".equals(storageType)) {
+            return;
+        }
         Path uploadPath = Paths.get(uploadDir).toAbsolutePath();
         registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadPath + "/");
+                .addResourceLocations("file:" + uploadPath + "/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable())
+                .setEtagGenerator(WebConfig::uploadEtag)
+                .resourceChain(false)
+                .addResolver(new PathResourceResolver());
+    }
+
+    /**
+     * 강한 ETag: 파일명 자체가 내용 digest인 blob만 ETag를 붙인다.
+     * 그 외 파일은 응답마다 내용을 해시하지 않도록 ETag 없이 Last-Modified로만 조건부 요청을 처리한다.
+     */
+    static String uploadEtag(Resource resource) {
+        String fileName = resource.getFilename();
+        if (fileName == null) {
+            return null;
+        }
+
+        String stem = StringUtils.stripFilenameExtension(fileName);
+        return DIGEST_FILE_NAME.matcher(stem).matches() ? fileName : null;
     }
 }
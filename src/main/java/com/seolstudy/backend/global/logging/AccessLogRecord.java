@@ -0,0 +1,21 @@
+package com.seolstudy.backend.global.logging;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청 1건의 접근 로그 (요청 스레드에서는 이 객체만 만들고 포맷팅은 writer가 담당)
+ */
+@Getter
+@AllArgsConstructor
+public class AccessLogRecord {
+
+    private final long timestampMillis;
+    private final String method;
+    private final String route;
+    private final int status;
+    private final long durationNanos;
+    private final Long userId;
+    private final int statementCount;
+    private final long dbNanos;
+}
@@ -0,0 +1,87 @@
+package com.seolstudy.backend.global.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 다중 생산자/단일 소비자 lock-free 링 버퍼
+ * 생산자(요청 스레드)는 CAS로 슬롯을 예약하고, 가득 차면 기다리지 않고 버린 뒤 건수만 센다.
+ * 소비자는 AccessLogWriter 스레드 하나뿐이다.
+ */
+public class AccessLogRingBuffer {
+
+    private final int mask;
+    private final AtomicReferenceArray<AccessLogRecord> slots;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    public AccessLogRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + requestedCapacity);
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity);
+        if (capacity < requestedCapacity) {
+            capacity <<= 1;
+        }
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 레코드 추가 (버퍼가 가득 차면 false)
+     */
+    public boolean offer(AccessLogRecord record) {
+        while (true) {
+            long currentTail = tail.get();
+            if (currentTail - head.get() > mask) {
+                dropped.increment();
+                return false;
+            }
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                slots.set(index(currentTail), record);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 게시된 레코드를 최대 maxRecords 건 꺼내 consumer에 전달 (소비자 스레드 전용)
+     */
+    public int drain(Consumer<AccessLogRecord> consumer, int maxRecords) {
+        long currentHead = head.get();
+        int drained = 0;
+        while (drained < maxRecords) {
+            int index = index(currentHead);
+            AccessLogRecord record = slots.get(index);
+            if (record == null) {
+                // 비어 있거나, 슬롯을 예약한 생산자가 아직 값을 쓰지 않음
+                break;
+            }
+            slots.lazySet(index, null);
+            currentHead++;
+            head.lazySet(currentHead);
+            consumer.accept(record);
+            drained++;
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public long size() {
+        return tail.get() - head.get();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+}
@@ -0,0 +1,114 @@
+package com.seolstudy.backend.global.logging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접근 로그 비동기 writer
+ * 요청 스레드는 링 버퍼에 레코드만 넣고, 백그라운드 스레드가 주기적으로 모아서 한 번에 기록한다.
+ */
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final int MAX_BATCH_SIZE = 512;
+
+    private final AccessLogRingBuffer buffer;
+    private final long flushIntervalMillis;
+    private final StringBuilder batch = new StringBuilder();
+    private ScheduledExecutorService scheduler;
+    private long reportedDropped;
+
+    public AccessLogWriter(@Value("${logging.access.buffer-size:8192}") int bufferSize,
+                           @Value("${logging.access.flush-interval:200ms}") Duration flushInterval) {
+        this.buffer = new AccessLogRingBuffer(bufferSize);
+        this.flushIntervalMillis = flushInterval.toMillis();
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "access-log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /**
+     * 요청 스레드에서 호출 (블로킹 없음, 버퍼가 가득 차면 버림)
+     */
+    public boolean append(AccessLogRecord record) {
+        return buffer.offer(record);
+    }
+
+    public long getDroppedCount() {
+        return buffer.droppedCount();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("접근 로그 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 버퍼를 비울 때까지 배치 단위로 기록 (writer 스레드 전용)
+     */
+    synchronized void flush() {
+        int drained;
+        do {
+            batch.setLength(0);
+            drained = buffer.drain(this::format, MAX_BATCH_SIZE);
+            if (drained > 0 && ACCESS_LOG.isInfoEnabled()) {
+                batch.setLength(batch.length() - 1);
+                ACCESS_LOG.info("{}", batch);
+            }
+        } while (drained == MAX_BATCH_SIZE);
+
+        long dropped = buffer.droppedCount();
+        if (dropped > reportedDropped) {
+            log.warn("접근 로그 버퍼 초과로 {}건을 버렸습니다", dropped - reportedDropped);
+            reportedDropped = dropped;
+        }
+    }
+
+    private void format(AccessLogRecord record) {
+        batch.append(record.getMethod())
+                .append(' ')
+                .append(record.getRoute())
+                .append(" -> ")
+                .append(record.getStatus())
+                .append(" (")
+                .append(String.format("%.3f", record.getDurationNanos() / 1_000_000.0))
+                .append(" ms, db ")
+                .append(record.getStatementCount())
+                .append(" queries ")
+                .append(String.format("%.3f", record.getDbNanos() / 1_000_000.0))
+                .append(" ms)");
+        if (record.getUserId() != null) {
+            batch.append(" user=").append(record.getUserId());
+        }
+        batch.append('\n');
+    }
+}
@@ -1,31 +1,96 @@
 package com.seolstudy.backend.global.logging;
 
+import com.seolstudy.backend.global.metrics.EndpointMetricsRegistry;
+import com.seolstudy.backend.global.metrics.QueryStats;
+import com.seolstudy.backend.global.security.AuthUser;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
+/**
+ * 요청 접근 로그, 엔드포인트 지연시간, 요청당 DB statement 수 수집
+ * 로그 I/O는 AccessLogWriter 스레드가 처리하므로 요청 스레드는 레코드와 히스토그램만 갱신한다.
+ * 보안 필터 체인보다 먼저 실행해 JWT 인증 중의 조회(토큰 폐기 확인)도 statement 수에 포함한다.
+ */
 @Slf4j
 @Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@RequiredArgsConstructor
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
+    private final AccessLogWriter accessLogWriter;
+    private final EndpointMetricsRegistry endpointMetricsRegistry;
+
+    /**
+     * 요청당 허용 statement 수 (초과 시 경고, 0이면 경고하지 않음)
+     */
+    @Value("${metrics.statement-budget:20}")
+    private int statementBudget;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        long start = System.currentTimeMillis();
+        long start = System.nanoTime();
+        QueryStats.begin();
         try {
             filterChain.doFilter(request, response);
         } finally {
-            long durationMs = System.currentTimeMillis() - start;
-            log.info("{} {} -> {} ({} ms)",
+            long durationNanos = System.nanoTime() - start;
+            QueryStats queryStats = QueryStats.end();
+            String route = resolveRoute(request);
+            AuthUser authUser = resolveAuthUser(request);
+
+            if (statementBudget > 0 && queryStats.getStatementCount() > statementBudget) {
+                log.warn("쿼리 수 예산 초과 - {} {}: {}건 (예산 {}건)",
+                        request.getMethod(), route != null ? route : request.getRequestURI(),
+                        queryStats.getStatementCount(), statementBudget);
+            }
+
+            endpointMetricsRegistry.record(
+                    request.getMethod(),
+                    route,
+                    response.getStatus(),
+                    authUser != null ? authUser.getRole() : null,
+                    durationNanos,
+                    queryStats.getStatementCount(),
+                    queryStats.getDbNanos()
+            );
+            accessLogWriter.append(new AccessLogRecord(
+                    System.currentTimeMillis(),
                     request.getMethod(),
-                    request.getRequestURI(),
+                    route != null ? route : request.getRequestURI(),
                     response.getStatus(),
-                    durationMs);
+                    durationNanos,
+                    authUser != null ? authUser.getUserId() : null,
+                    queryStats.getStatementCount(),
+                    queryStats.getDbNanos()
+            ));
         }
     }
+
+    /**
+     * 매칭된 라우트 템플릿 (/api/tasks/{taskId}), 핸들러가 없으면 null
+     */
+    private String resolveRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : null;
+    }
+
+    /**
+     * 보안 필터 체인이 끝나면 SecurityContext가 비워지므로 인증 필터가 남긴 요청 속성에서 조회
+     */
+    private AuthUser resolveAuthUser(HttpServletRequest request) {
+        Object principal = request.getAttribute(AuthUser.REQUEST_ATTRIBUTE);
+        return principal instanceof AuthUser authUser ? authUser : null;
+    }
 }
@@ -0,0 +1,48 @@
+package com.seolstudy.backend.global.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class EndpointLatencyResponse {
+
+    private String method;
+    private String route;
+    private String statusClass;
+    private String role;
+    private Long count;
+    private Double meanMs;
+    private Double p50Ms;
+    private Double p95Ms;
+    private Double p99Ms;
+    private Double maxMs;
+    private Double meanStatements;
+    private Long maxStatements;
+    private Double meanDbMs;
+
+    public static EndpointLatencyResponse of(EndpointMetricsRegistry.EndpointKey key, EndpointStats stats) {
+        LatencyHistogram histogram = stats.getLatency();
+        return EndpointLatencyResponse.builder()
+                .method(key.getMethod())
+                .route(key.getRoute())
+                .statusClass(key.getStatusClass())
+                .role(key.getRole())
+                .count(histogram.getCount())
+                .meanMs(toMillis(histogram.getMeanMicros()))
+                .p50Ms(toMillis(histogram.percentileMicros(50)))
+                .p95Ms(toMillis(histogram.percentileMicros(95)))
+                .p99Ms(toMillis(histogram.percentileMicros(99)))
+                .maxMs(toMillis(histogram.getMaxMicros()))
+                .meanStatements(Math.round(stats.getMeanStatements() * 100) / 100.0)
+                .maxStatements(stats.getMaxStatements())
+                .meanDbMs(toMillis(stats.getMeanDbMicros()))
+                .build();
+    }
+
+    private static double toMillis(double micros) {
+        return Math.round(micros) / 1_000.0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.seolstudy.backend.global.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔드포인트별 지연시간 히스토그램 및 DB statement 지표 레지스트리
+ * 키는 (HTTP 메서드, 라우트 템플릿, 상태 코드 계열, 역할)이며, 원본 URI는 쓰지 않아 키 수가 라우트 수로 제한된다.
+ */
+@Component
+public class EndpointMetricsRegistry {
+
+    /**
+     * 매칭된 핸들러가 없는 요청(404, 정적 리소스 등)은 하나의 라우트로 묶는다
+     */
+    public static final String UNMATCHED_ROUTE = "UNMATCHED";
+    public static final String ANONYMOUS_ROLE = "ANONYMOUS";
+
+    private final Map<EndpointKey, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String method, String route, int status, String role,
+                       long durationNanos, int statementCount, long dbNanos) {
+        EndpointKey key = new EndpointKey(
+                method,
+                route != null ? route : UNMATCHED_ROUTE,
+                statusClass(status),
+                role != null ? role : ANONYMOUS_ROLE
+        );
+        endpoints.computeIfAbsent(key, k -> new EndpointStats()).record(durationNanos, statementCount, dbNanos);
+    }
+
+    /**
+     * p99 내림차순 스냅샷
+     */
+    public List<EndpointLatencyResponse> snapshot() {
+        return endpoints.entrySet().stream()
+                .map(entry -> EndpointLatencyResponse.of(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(EndpointLatencyResponse::getP99Ms).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static String statusClass(int status) {
+        return (status / 100) + "xx";
+    }
+
+    @Getter
+    public static final class EndpointKey {
+
+        private final String method;
+        private final String route;
+        private final String statusClass;
+        private final String role;
+
+        private EndpointKey(String method, String route, String statusClass, String role) {
+            this.method = method;
+            this.route = route;
+            this.statusClass = statusClass;
+            this.role = role;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EndpointKey other)) {
+                return false;
+            }
+            return method.equals(other.method)
+                    && route.equals(other.route)
+                    && statusClass.equals(other.statusClass)
+                    && role.equals(other.role);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(method, route, statusClass, role);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.seolstudy.backend.global.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 누적 지표 (지연시간 히스토그램 + 요청당 statement 수/DB 시간)
+ */
+public class EndpointStats {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder statementTotal = new LongAdder();
+    private final AtomicLong statementMax = new AtomicLong();
+    private final LongAdder dbNanosTotal = new LongAdder();
+
+    public void record(long durationNanos, int statementCount, long dbNanos) {
+        latency.recordNanos(durationNanos);
+        statementTotal.add(statementCount);
+        statementMax.accumulateAndGet(statementCount, Math::max);
+        dbNanosTotal.add(dbNanos);
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public double getMeanStatements() {
+        long count = latency.getCount();
+        return count == 0 ? 0.0 : (double) statementTotal.sum() / count;
+    }
+
+    public long getMaxStatements() {
+        return statementMax.get();
+    }
+
+    public double getMeanDbMicros() {
+        long count = latency.getCount();
+        return count == 0 ? 0.0 : dbNanosTotal.sum() / 1_000.0 / count;
+    }
+}
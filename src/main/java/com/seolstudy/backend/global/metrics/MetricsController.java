@@ -0,0 +1,35 @@
+package com.seolstudy.backend.global.metrics;
+
+import com.seolstudy.backend.global.logging.AccessLogWriter;
+import com.seolstudy.backend.global.payload.CommonResponse;
+import com.seolstudy.backend.global.security.VerifiedTokenCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "내부 지표", description = "프로세스 내 성능 지표 API")
+@RestController
+@RequestMapping("/internal/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final EndpointMetricsRegistry endpointMetricsRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessLogWriter accessLogWriter;
+    private final VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+
+    @Operation(summary = "엔드포인트 지연시간 조회", description = "라우트/상태 계열/역할별 p50, p95, p99, max 지연시간을 조회합니다 (허용된 내부 주소에서만 접근 가능)")
+    @GetMapping
+    public CommonResponse<MetricsResponse> getMetrics() {
+        MetricsResponse response = MetricsResponse.builder()
+                .endpoints(endpointMetricsRegistry.snapshot())
+                .tokenCache(verifiedTokenCache.getStats())
+                .droppedAccessLogs(accessLogWriter.getDroppedCount())
+                .pinnedVirtualThreads(virtualThreadPinningMonitor.getPinnedCount())
+                .build();
+        return CommonResponse.onSuccess(response);
+    }
+}
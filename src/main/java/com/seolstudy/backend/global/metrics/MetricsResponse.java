@@ -0,0 +1,18 @@
+package com.seolstudy.backend.global.metrics;
+
+import com.seolstudy.backend.global.security.VerifiedTokenCache;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class MetricsResponse {
+
+    private List<EndpointLatencyResponse> endpoints;
+    private VerifiedTokenCache.CacheStats tokenCache;
+    private Long droppedAccessLogs;
+    private Long pinnedVirtualThreads;
+}
@@ -0,0 +1,51 @@
+package com.seolstudy.backend.global.metrics;
+
+/**
+ * 요청 단위 JDBC 실행 통계 (요청 스레드 ThreadLocal)
+ * begin()~end() 사이에 실행된 statement 수와 DB 시간을 QueryStatsListener가 누적한다.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long dbNanos;
+
+    private QueryStats() {
+    }
+
+    /**
+     * 현재 스레드에서 집계 시작 (이전 집계는 버림)
+     */
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 현재 스레드의 집계 종료 후 결과 반환 (집계 중이 아니면 null)
+     */
+    public static QueryStats end() {
+        QueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(long elapsedNanos) {
+        statementCount++;
+        dbNanos += elapsedNanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+}
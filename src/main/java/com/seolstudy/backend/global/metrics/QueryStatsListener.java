@@ -0,0 +1,40 @@
+package com.seolstudy.backend.global.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션 이벤트로 JDBC statement 실행 수와 시간을 QueryStats에 누적
+ * spring.jpa.properties.hibernate.session.events.auto 로 모든 세션에 등록된다.
+ */
+public class QueryStatsListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private void record(long start) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(System.nanoTime() - start);
+        }
+    }
+}
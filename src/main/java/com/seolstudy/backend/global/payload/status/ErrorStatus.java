@@ -32,6 +32,7 @@ public enum ErrorStatus implements BaseStatus {
     FEEDBACK_NOT_FOUND(HttpStatus.NOT_FOUND, "FEEDBACK_4041", "피드백을 찾을 수 없습니다."),
     INVALID_FEEDBACK_DATE(HttpStatus.BAD_REQUEST, "FEEDBACK_4001", "유효하지 않은 피드백 날짜 형식입니다."),
     FEEDBACK_ALREADY_EXISTS(HttpStatus.CONFLICT, "FEEDBACK_4091", "이미 피드백이 존재합니다."),
+    INVALID_FEEDBACK_CURSOR(HttpStatus.BAD_REQUEST, "FEEDBACK_4002", "유효하지 않은 페이지 커서입니다."),
 
     // Member Error
     MEMBER_NOT_FOUND(HttpStatus.BAD_REQUEST, "MEMBER_4001", "사용자가 없습니다."),
@@ -46,6 +47,9 @@ public enum ErrorStatus implements BaseStatus {
     INVALID_TASK_ATTACHMENT_TYPE(HttpStatus.BAD_REQUEST, "TASK_4006", "PDF 또는 이미지 파일만 업로드할 수 있습니다."),
     TASK_COMPLETION_IMAGE_TOO_LARGE(HttpStatus.BAD_REQUEST, "TASK_4007", "완료 인증 사진 용량이 너무 큽니다."),
     TASK_ATTACHMENT_TOO_LARGE(HttpStatus.BAD_REQUEST, "TASK_4008", "첨부파일 용량이 너무 큽니다."),
+    INVALID_TASK_ATTACHMENT_UPLOAD_TOKEN(HttpStatus.BAD_REQUEST, "TASK_4009", "유효하지 않거나 만료된 업로드 토큰입니다."),
+    TASK_ATTACHMENT_NOT_UPLOADED(HttpStatus.BAD_REQUEST, "TASK_4010", "첨부파일 업로드가 완료되지 않았습니다."),
+    TASK_ATTACHMENT_ALREADY_UPLOADED(HttpStatus.CONFLICT, "TASK_4091", "이미 업로드된 첨부파일입니다."),
     TASK_COMPLETION_IMAGE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "TASK_5001", "완료 인증 사진 업로드에 실패했습니다."),
     TASK_ATTACHMENT_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "TASK_5002", "첨부파일 업로드에 실패했습니다."),
 
@@ -0,0 +1,17 @@
+package com.seolstudy.backend.global.persistence;
+
+/**
+ * 엔티티 ID 발급 테이블 설정 (@TableGenerator에서 공유)
+ * MySQL에는 시퀀스가 없으므로 id_sequence 테이블의 엔티티별 행에서 ALLOCATION_SIZE개씩 ID 구간을 미리 받아온다(pooled).
+ * IDENTITY와 달리 persist 시점에 INSERT를 실행할 필요가 없어 Hibernate JDBC 배치가 동작한다.
+ */
+public final class IdSequence {
+
+    public static final String TABLE = "id_sequence";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequence() {
+    }
+}
@@ -0,0 +1,74 @@
+package com.seolstudy.backend.global.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.metamodel.EntityType;
+import java.lang.reflect.Field;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ID 발급 테이블 보정
+ * IDENTITY로 이미 발급된 ID와 겹치지 않도록, 시작 시 엔티티별 next_val을 현재 최대 ID 다음 구간 이상으로 올린다.
+ * pooled 최적화는 읽은 값을 구간의 상한으로 쓰므로 "최대 ID + ALLOCATION_SIZE + 1"을 하한으로 둔다.
+ * 값은 올리기만 하므로 여러 인스턴스가 동시에 시작해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    public void initialize() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (EntityType<?> entity : entityManager.getMetamodel().getEntities()) {
+            for (Field field : entity.getJavaType().getDeclaredFields()) {
+                TableGenerator generator = field.getAnnotation(TableGenerator.class);
+                if (generator != null && IdSequence.TABLE.equals(generator.table())) {
+                    transactionTemplate.executeWithoutResult(status ->
+                            raise(entity.getName(), field.getName(), generator.pkColumnValue(), generator.allocationSize()));
+                }
+            }
+        }
+    }
+
+    private void raise(String entityName, String idField, String segment, int allocationSize) {
+        Number maxId = entityManager
+                .createQuery("SELECT COALESCE(MAX(e." + idField + "), 0) FROM " + entityName + " e", Number.class)
+                .getSingleResult();
+        long floor = maxId.longValue() + allocationSize + 1;
+
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT " + IdSequence.VALUE_COLUMN + " FROM " + IdSequence.TABLE
+                        + " WHERE " + IdSequence.NAME_COLUMN + " = ?", Long.class, segment);
+        if (current.isEmpty()) {
+            try {
+                jdbcTemplate.update("INSERT INTO " + IdSequence.TABLE
+                        + " (" + IdSequence.NAME_COLUMN + ", " + IdSequence.VALUE_COLUMN + ") VALUES (?, ?)", segment, floor);
+                log.info("ID 발급 테이블 초기화 - {}: {}", segment, floor);
+                return;
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 먼저 만든 경우 아래에서 하한만 맞춘다
+            }
+        }
+
+        int updated = jdbcTemplate.update("UPDATE " + IdSequence.TABLE
+                        + " SET " + IdSequence.VALUE_COLUMN + " = ?"
+                        + " WHERE " + IdSequence.NAME_COLUMN + " = ? AND " + IdSequence.VALUE_COLUMN + " < ?",
+                floor, segment, floor);
+        if (updated > 0) {
+            log.info("ID 발급 테이블 보정 - {}: {}", segment, floor);
+        }
+    }
+}
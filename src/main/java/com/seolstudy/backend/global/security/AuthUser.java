@@ -0,0 +1,37 @@
+package com.seolstudy.backend.global.security;
+
+import java.util.List;
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * 인증된 사용자 principal
+ * 기존 UserDetails 기반 컨트롤러와 호환되도록 User를 확장하고, 토큰의 userId/role을 함께 보관한다.
+ */
+@Getter
+public class AuthUser extends User {
+
+    /**
+     * 인증 필터가 principal을 남기는 요청 속성 (보안 필터 체인 밖의 필터에서 조회)
+     */
+    public static final String REQUEST_ATTRIBUTE = AuthUser.class.getName();
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final Long userId;
+    private final String role;
+
+    public AuthUser(Long userId, String username, String password, String role) {
+        super(username, password, List.of(new SimpleGrantedAuthority(ROLE_PREFIX + role)));
+        this.userId = userId;
+        this.role = role;
+    }
+
+    /**
+     * 검증된 토큰 클레임으로 principal 생성 (비밀번호 없음)
+     */
+    public static AuthUser fromClaims(Long userId, String username, String role) {
+        return new AuthUser(userId, username, "", role);
+    }
+}
@@ -0,0 +1,86 @@
+package com.seolstudy.backend.global.security;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 항목별 만료 시각을 가진 크기 제한 캐시 (인증 경로용)
+ * ConcurrentHashMap 위에서 조회와 저장은 전역 잠금 없이 처리한다 (LRU처럼 조회가 순서를 바꾸는 쓰기가 되지 않는다).
+ * 크기가 maxSize를 넘으면 한 스레드만 정리를 맡아 만료 항목을 먼저 지우고,
+ * 그래도 넘치면 방금 넣은 항목을 제외한 임의 항목을 지워 maxSize의 90%까지 줄인다 (정리가 매 저장마다 반복되지 않도록).
+ */
+final class ExpiringCache<K, V> {
+
+    private final int maxSize;
+    private final int evictTo;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    ExpiringCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.evictTo = maxSize - Math.max(1, maxSize / 10);
+    }
+
+    /**
+     * now 기준으로 만료되지 않은 값 (만료된 항목은 제거하고 null)
+     */
+    V get(K key, Instant now) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!now.isBefore(entry.expiresAt)) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    void put(K key, V value, Instant expiresAt) {
+        if (maxSize <= 0) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+        if (entries.size() > maxSize) {
+            evict(key, Instant.now());
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(K keep, Instant now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            entries.entrySet().removeIf(entry -> !now.isBefore(entry.getValue().expiresAt));
+            if (entries.size() <= maxSize) {
+                return;
+            }
+            Iterator<K> keys = entries.keySet().iterator();
+            while (entries.size() > evictTo && keys.hasNext()) {
+                if (!keys.next().equals(keep)) {
+                    keys.remove();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final Instant expiresAt;
+
+        private Entry(V value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
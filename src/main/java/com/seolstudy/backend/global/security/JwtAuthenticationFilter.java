@@ -13,6 +13,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -23,6 +24,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationChecker tokenRevocationChecker;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -30,10 +33,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.debug("Security Context에 '{}' 인증 정보를 저장했습니다", authentication.getName());
+        Optional<TokenClaims> tokenClaims = StringUtils.hasText(token)
+                ? resolveClaims(token)
+                : Optional.empty();
+
+        if (tokenClaims.isPresent()) {
+            Authentication authentication = jwtTokenProvider.getAuthentication(tokenClaims.get());
+            if (isRevoked(authentication)) {
+                log.debug("폐기된 JWT 토큰입니다");
+            } else {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (authentication.getPrincipal() instanceof AuthUser authUser) {
+                    request.setAttribute(AuthUser.REQUEST_ATTRIBUTE, authUser);
+                }
+                log.debug("Security Context에 '{}' 인증 정보를 저장했습니다", authentication.getName());
+            }
         } else {
             log.debug("유효한 JWT 토큰이 없습니다");
         }
@@ -41,6 +55,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 캐시에 검증된 클레임이 있으면 서명 검증을 생략
+     */
+    private Optional<TokenClaims> resolveClaims(String token) {
+        Optional<TokenClaims> cached = verifiedTokenCache.get(token);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<TokenClaims> verified = jwtTokenProvider.resolveClaims(token);
+        verified.ifPresent(claims -> verifiedTokenCache.put(token, claims));
+        return verified;
+    }
+
+    private boolean isRevoked(Authentication authentication) {
+        return authentication.getPrincipal() instanceof AuthUser authUser
+                && tokenRevocationChecker.isRevoked(authUser);
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
@@ -1,11 +1,13 @@
 package com.seolstudy.backend.global.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,12 +32,23 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-expiration}")
     private Long refreshTokenExpiration;
 
+    /**
+     * true면 검증된 토큰 클레임으로 principal을 만들고, false면 매 요청 사용자 테이블을 조회한다.
+     */
+    @Value("${jwt.stateless-authentication:true}")
+    private boolean statelessAuthentication;
+
     private SecretKey key;
+    private JwtParser jwtParser;
     private final UserDetailsService userDetailsService;
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        // JwtParser는 불변이며 스레드 안전하므로 한 번만 생성해 공유
+        this.jwtParser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     public String createAccessToken(Long userId, String username, String role) {
@@ -61,41 +74,56 @@ public class JwtTokenProvider {
     }
 
     public Long getUserId(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("userId", Long.class);
+        return parseClaims(token).get("userId", Long.class);
     }
 
     public String getUsername(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("username", String.class);
+        return parseClaims(token).get("username", String.class);
     }
 
     public String getRole(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("role", String.class);
+        return parseClaims(token).get("role", String.class);
     }
 
     public boolean validateToken(String token) {
+        return resolveClaims(token).isPresent();
+    }
+
+    /**
+     * 토큰을 한 번 파싱/검증해 클레임 반환 (유효하지 않으면 empty)
+     */
+    public Optional<TokenClaims> resolveClaims(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return Optional.of(TokenClaims.of(parseClaims(token)));
         } catch (Exception e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     public Authentication getAuthentication(String token) {
-        String username = getUsername(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        return new UsernamePasswordAuthenticationToken(userDetails, token, userDetails.getAuthorities());
+        return getAuthentication(TokenClaims.of(parseClaims(token)));
+    }
+
+    /**
+     * 이미 검증된 클레임으로 인증 정보 생성 (추가 파싱 없음)
+     * 클레임에는 토큰 원문이 없으므로 credentials는 비워 둔다.
+     */
+    public Authentication getAuthentication(TokenClaims tokenClaims) {
+        UserDetails userDetails;
+        if (statelessAuthentication) {
+            userDetails = AuthUser.fromClaims(
+                    tokenClaims.getUserId(),
+                    tokenClaims.getUsername(),
+                    tokenClaims.getRole()
+            );
+        } else {
+            userDetails = userDetailsService.loadUserByUsername(tokenClaims.getUsername());
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
-}
\ No newline at end of file
+}
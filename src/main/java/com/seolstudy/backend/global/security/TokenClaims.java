@@ -0,0 +1,35 @@
+package com.seolstudy.backend.global.security;
+
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임
+ * 요청당 한 번만 파싱하고 이후 인증 처리에서 재사용한다.
+ * 캐시에 보관되므로 토큰 원문은 담지 않는다.
+ */
+@Getter
+public class TokenClaims {
+
+    private final Long userId;
+    private final String username;
+    private final String role;
+    private final Instant expiresAt;
+
+    private TokenClaims(Long userId, String username, String role, Instant expiresAt) {
+        this.userId = userId;
+        this.username = username;
+        this.role = role;
+        this.expiresAt = expiresAt;
+    }
+
+    public static TokenClaims of(Claims claims) {
+        return new TokenClaims(
+                claims.get("userId", Long.class),
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+}
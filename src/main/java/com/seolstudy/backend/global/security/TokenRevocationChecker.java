@@ -0,0 +1,76 @@
+package com.seolstudy.backend.global.security;
+
+import com.seolstudy.backend.domain.user.repository.UserRepository;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클레임 기반 인증 시 토큰 폐기 여부 확인
+ * 사용자가 삭제되었거나 역할이 바뀐 경우 기존 토큰을 거부한다.
+ * 결과는 사용자별로 jwt.revocation-check-ttl 동안 캐시하며, 0이면 확인하지 않는다.
+ * TTL이 0이면 요청당 DB 조회가 없는 대신 삭제/역할 변경이 토큰 만료 시까지 반영되지 않고,
+ * TTL을 주면 사용자당 TTL마다 한 번 조회하는 대신 최대 TTL 안에 반영된다.
+ * 캐시는 인증 요청마다 조회되므로 전역 잠금 없는 ExpiringCache에 두고,
+ * jwt.revocation-check-max-size 개를 넘으면 TTL이 지난 사용자부터 제거한다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationChecker {
+
+    private final UserRepository userRepository;
+    private final Duration ttl;
+    private final ExpiringCache<Long, CachedRole> cache;
+
+    public TokenRevocationChecker(UserRepository userRepository,
+                                  @Value("${jwt.revocation-check-ttl:0s}") Duration ttl,
+                                  @Value("${jwt.revocation-check-max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttl = ttl;
+        this.cache = new ExpiringCache<>(maxSize);
+    }
+
+    public boolean isEnabled() {
+        return !ttl.isZero() && !ttl.isNegative();
+    }
+
+    /**
+     * 토큰의 사용자가 더 이상 유효하지 않은지 확인
+     */
+    public boolean isRevoked(AuthUser authUser) {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        Instant now = Instant.now();
+        CachedRole cached = cache.get(authUser.getUserId(), now);
+        if (cached == null) {
+            String currentRole = userRepository.findById(authUser.getUserId())
+                    .map(user -> user.getRole().name())
+                    .orElse(null);
+            cached = new CachedRole(currentRole);
+            cache.put(authUser.getUserId(), cached, now.plus(ttl));
+        }
+
+        boolean revoked = cached.role == null || !cached.role.equals(authUser.getRole());
+        if (revoked) {
+            log.debug("폐기된 토큰입니다 - userId: {}", authUser.getUserId());
+        }
+        return revoked;
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private static final class CachedRole {
+
+        private final String role;
+
+        private CachedRole(String role) {
+            this.role = role;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.seolstudy.backend.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 토큰 클레임 캐시
+ * 토큰 원문 대신 SHA-256 digest를 키로 쓰고, 토큰의 exp까지만 보관한다.
+ * 모든 인증 요청이 지나가므로 조회가 전역 잠금을 잡지 않도록 ExpiringCache(ConcurrentHashMap)에 보관한다.
+ * jwt.token-cache.max-size 를 넘으면 만료 항목부터 정리하고, 0이면 캐시하지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final ExpiringCache<String, TokenClaims> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${jwt.token-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new ExpiringCache<>(maxSize);
+    }
+
+    public Optional<TokenClaims> get(String token) {
+        if (maxSize <= 0) {
+            return Optional.empty();
+        }
+
+        TokenClaims cached = entries.get(digest(token), Instant.now());
+        if (cached == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        return Optional.of(cached);
+    }
+
+    public void put(String token, TokenClaims tokenClaims) {
+        if (maxSize <= 0 || tokenClaims.getExpiresAt() == null) {
+            return;
+        }
+
+        entries.put(digest(token), tokenClaims, tokenClaims.getExpiresAt());
+    }
+
+    public CacheStats getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        double hitRate = total == 0 ? 0.0 : (double) hitCount / total;
+        return new CacheStats(hitCount, missCount, entries.size(), maxSize, hitRate);
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CacheStats {
+        private final long hits;
+        private final long misses;
+        private final int size;
+        private final int maxSize;
+        private final double hitRate;
+    }
+}
@@ -0,0 +1,77 @@
+package com.seolstudy.backend.global.storage;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+/**
+ * 트랜잭션 결과에 맞춘 업로드 파일 지연 삭제
+ * 교체된 기존 파일은 커밋 후에만, 새로 저장한 파일은 롤백된 경우에만 삭제해
+ * DB가 이미 지워진 파일을 가리키거나 파일이 고아로 남는 일을 막는다.
+ * 실제 삭제는 fileCleanupExecutor에서 수행되어 요청 지연에 포함되지 않는다.
+ */
+@Slf4j
+@Component
+public class DeferredFileDeleter {
+
+    private final Executor fileCleanupExecutor;
+
+    public DeferredFileDeleter(@Qualifier("fileCleanupExecutor") Executor fileCleanupExecutor) {
+        this.fileCleanupExecutor = fileCleanupExecutor;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 삭제 (트랜잭션 밖이면 바로 비동기 삭제)
+     */
+    public void deleteAfterCommit(String fileUrl, Consumer<String> deleter) {
+        if (!StringUtils.hasText(fileUrl)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(fileUrl, deleter);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    submit(fileUrl, deleter);
+                }
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 삭제 (트랜잭션 밖이면 아무것도 하지 않음)
+     */
+    public void deleteOnRollback(String fileUrl, Consumer<String> deleter) {
+        if (!StringUtils.hasText(fileUrl) || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    submit(fileUrl, deleter);
+                }
+            }
+        });
+    }
+
+    private void submit(String fileUrl, Consumer<String> deleter) {
+        fileCleanupExecutor.execute(() -> {
+            try {
+                deleter.accept(fileUrl);
+            } catch (RuntimeException e) {
+                log.warn("업로드 파일 지연 삭제 실패 - fileUrl: {}", fileUrl, e);
+            }
+        });
+    }
+}
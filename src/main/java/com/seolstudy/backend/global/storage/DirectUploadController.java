@@ -0,0 +1,121 @@
+package com.seolstudy.backend.global.storage;
+
+import com.seolstudy.backend.global.exception.GeneralException;
+import com.seolstudy.backend.global.payload.status.ErrorStatus;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 로컬 저장소의 직접 업로드 수신 (S3 presigned PUT과 같은 방식)
+ * 인증 토큰 대신 LocalFileStorage가 발급한 URL 서명으로 key, Content-Type, 크기, 만료 시각을 검증하고
+ * multipart 파싱/임시 파일 없이 요청 본문을 바로 저장소에 기록한다.
+ * 같은 key에는 한 번만 기록하므로 서명된 URL을 다시 보내도 이미 올라온 파일은 바뀌지 않는다.
+ */
+@Slf4j
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+public class DirectUploadController {
+
+    private final LocalFileStorage localFileStorage;
+
+    @PutMapping(LocalFileStorage.DIRECT_UPLOAD_PATH)
+    public ResponseEntity<Void> upload(
+            @RequestParam("key") String key,
+            @RequestParam("contentType") String contentType,
+            @RequestParam("contentLength") long contentLength,
+            @RequestParam("expires") long expires,
+            @RequestParam("signature") String signature,
+            HttpServletRequest request
+    ) throws IOException {
+        if (!localFileStorage.isValidUpload(key, contentType, contentLength, expires, signature)) {
+            throw new GeneralException(ErrorStatus.FORBIDDEN);
+        }
+        if (!matchesContentType(request.getContentType(), contentType)) {
+            throw new GeneralException(ErrorStatus.BAD_REQUEST);
+        }
+        long declaredLength = request.getContentLengthLong();
+        if (declaredLength >= 0 && declaredLength != contentLength) {
+            throw new GeneralException(ErrorStatus.BAD_REQUEST);
+        }
+
+        // 서명된 URL은 만료 전까지 재사용할 수 있으므로 이미 올라온(확인된) 파일을 덮어쓰지 않도록 한 번만 받는다
+        try (InputStream body = new LengthLimitedInputStream(request.getInputStream(), contentLength)) {
+            if (!localFileStorage.storeIfAbsent(key, body)) {
+                throw new GeneralException(ErrorStatus.TASK_ATTACHMENT_ALREADY_UPLOADED);
+            }
+        } catch (LengthExceededException e) {
+            throw new GeneralException(ErrorStatus.BAD_REQUEST);
+        }
+
+        long storedLength = localFileStorage.stat(key).map(FileStat::getSize).orElse(-1L);
+        if (storedLength != contentLength) {
+            localFileStorage.delete(key);
+            log.warn("직접 업로드 크기 불일치 - key: {}, expected: {}, actual: {}", key, contentLength, storedLength);
+            throw new GeneralException(ErrorStatus.BAD_REQUEST);
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    private boolean matchesContentType(String requestContentType, String signedContentType) {
+        if (requestContentType == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaType(requestContentType)
+                    .equalsTypeAndSubtype(MediaType.parseMediaType(signedContentType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 서명된 크기보다 많이 보내면 디스크에 끝까지 쓰기 전에 중단
+     */
+    private static final class LengthLimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private LengthLimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1 && --remaining < 0) {
+                throw new LengthExceededException();
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                remaining -= read;
+                if (remaining < 0) {
+                    throw new LengthExceededException();
+                }
+            }
+            return read;
+        }
+    }
+
+    private static final class LengthExceededException extends IOException {
+    }
+}
@@ -0,0 +1,16 @@
+package com.seolstudy.backend.global.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 발급된 직접 업로드 슬롯 (업로드 요청 정보 + 업로드 완료 확인용 토큰)
+ */
+@Getter
+@AllArgsConstructor
+public class DirectUploadSlot {
+
+    private final String key;
+    private final String uploadToken;
+    private final PresignedUpload upload;
+}
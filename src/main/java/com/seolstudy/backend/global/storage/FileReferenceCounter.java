@@ -0,0 +1,45 @@
+package com.seolstudy.backend.global.storage;
+
+import com.seolstudy.backend.domain.planner.repository.PlannerRepository;
+import com.seolstudy.backend.domain.task.repository.TaskCompletionRepository;
+import com.seolstudy.backend.domain.task.repository.TaskRepository;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 파일 URL 참조 수 집계
+ * 콘텐츠 주소 저장소의 blob은 여러 엔티티가 공유하므로, 참조가 모두 사라진 경우에만 삭제한다.
+ * 별도 카운터 컬럼 없이 Task.pdfFileUrl, TaskCompletion.completionPhotoUrl, Planner.imageUrl에서 직접 센다.
+ * 세 URL 컬럼에는 각각 인덱스가 있어 blob 하나의 참조 수 조회는 인덱스 탐색으로 끝난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileReferenceCounter {
+
+    private final TaskRepository taskRepository;
+    private final TaskCompletionRepository taskCompletionRepository;
+    private final PlannerRepository plannerRepository;
+
+    public long countReferences(String fileUrl) {
+        return taskRepository.countByPdfFileUrl(fileUrl)
+                + taskCompletionRepository.countByCompletionPhotoUrl(fileUrl)
+                + plannerRepository.countByImageUrl(fileUrl);
+    }
+
+    /**
+     * 주어진 URL 중 현재 엔티티가 참조 중인 URL (UploadSweeper가 파일 목록을 묶음 단위로 대조하기 위해 사용)
+     * 호출자가 묶음 크기를 제한하므로 IN 절 크기와 결과 크기는 묶음 크기를 넘지 않는다.
+     */
+    public Set<String> findReferencedUrls(Collection<String> fileUrls) {
+        if (fileUrls.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> urls = new HashSet<>(taskRepository.findPdfFileUrlsIn(fileUrls));
+        urls.addAll(taskCompletionRepository.findCompletionPhotoUrlsIn(fileUrls));
+        urls.addAll(plannerRepository.findImageUrlsIn(fileUrls));
+        return urls;
+    }
+}
@@ -0,0 +1,14 @@
+package com.seolstudy.backend.global.storage;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FileStat {
+
+    private final String key;
+    private final long size;
+    private final Instant lastModified;
+}
@@ -0,0 +1,79 @@
+package com.seolstudy.backend.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드 파일 저장소 SPI
+ * key는 업로드 루트 기준 상대 경로(예: task-attachments/{uuid}.pdf)이고, 클라이언트에 노출되는 URL은 "/uploads/" + key 이다.
+ * 구현체는 쓰기를 원자적으로 처리해 완성되지 않은 파일이 조회되지 않게 해야 한다.
+ * 로컬 디스크(LocalFileStorage)와 S3 호환 오브젝트 스토리지(S3FileStorage)를 file.storage.type으로 선택한다.
+ */
+public interface FileStorage {
+
+    String URL_PREFIX = "/uploads/";
+
+    /**
+     * key 위치에 내용 저장 (같은 key가 있으면 교체)
+     */
+    void store(String key, InputStream content, long contentLength, String contentType) throws IOException;
+
+    /**
+     * 업로드 파일 저장 (구현체가 임시 파일 이동 등 더 빠른 경로를 제공할 수 있음)
+     */
+    default void store(String key, MultipartFile file) throws IOException {
+        try (InputStream content = file.getInputStream()) {
+            store(key, content, file.getSize(), file.getContentType());
+        }
+    }
+
+    /**
+     * 저장된 내용 읽기 (없으면 NoSuchFileException)
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 삭제 (없으면 false)
+     */
+    boolean delete(String key) throws IOException;
+
+    Optional<FileStat> stat(String key) throws IOException;
+
+    /**
+     * sourceKey의 내용을 targetKey로 옮김 (targetKey가 있으면 교체, 옮긴 뒤 sourceKey는 없음)
+     */
+    void move(String sourceKey, String targetKey) throws IOException;
+
+    /**
+     * prefix로 시작하는 모든 파일
+     */
+    List<FileStat> list(String prefix) throws IOException;
+
+    /**
+     * 클라이언트가 ttl 동안 직접 내려받을 수 있는 URL
+     */
+    String presignedUrl(String key, Duration ttl);
+
+    /**
+     * 클라이언트가 ttl 동안 key 위치에 직접 올릴 수 있는 요청 정보 (Content-Type과 크기가 서명에 포함됨)
+     */
+    PresignedUpload presignUpload(String key, String contentType, long contentLength, Duration ttl);
+
+    static String urlOf(String key) {
+        return URL_PREFIX + key;
+    }
+
+    /**
+     * "/uploads/" URL을 key로 변환 (업로드 URL이 아니면 null)
+     */
+    static String keyOf(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX) || url.length() == URL_PREFIX.length()) {
+            return null;
+        }
+        return url.substring(URL_PREFIX.length());
+    }
+}
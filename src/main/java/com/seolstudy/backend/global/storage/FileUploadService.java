@@ -0,0 +1,378 @@
+package com.seolstudy.backend.global.storage;
+
+import com.seolstudy.backend.global.exception.GeneralException;
+import com.seolstudy.backend.global.payload.status.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 저장/삭제
+ * 파일 종류별 검증, 저장 위치(key) 결정, 콘텐츠 주소 blob 중복 제거를 담당하고
+ * 실제 바이트 저장은 FileStorage 구현체(로컬 디스크 또는 S3 호환 스토리지)에 맡긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileUploadService {
+
+    private static final String PLANNER_DIR = "planners";
+    private static final String TASK_COMPLETION_DIR = "task-completions";
+    private static final String TASK_ATTACHMENT_DIR = "task-attachments";
+    private static final String BLOB_DIR = "blobs";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final Pattern BLOB_URL_PATTERN =
+            Pattern.compile("^/uploads/blobs/[0-9a-f]{2}/[0-9a-f]{64}(\\.[a-z0-9]+)?$");
+    private static final Pattern SAFE_EXTENSION_PATTERN = Pattern.compile("^[a-z0-9]{1,10}$");
+
+    private final FileStorage fileStorage;
+    private final UploadBlobRegistry uploadBlobRegistry;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final UploadUrlSigner uploadUrlSigner;
+
+    /**
+     * true면 업로드를 SHA-256 digest 기준 blob으로 한 번만 저장하고 엔티티끼리 공유한다.
+     */
+    @Value("${file.content-addressed:false}")
+    private boolean contentAddressed;
+
+    /**
+     * 최근에 쓰이거나 재사용된 blob은 이 기간 동안 즉시 삭제하지 않고 UploadSweeper에 맡긴다.
+     */
+    @Value("${file.cleanup.grace-period:PT1H}")
+    private Duration cleanupGracePeriod = Duration.ofHours(1);
+
+    /**
+     * 직접 업로드 URL 유효 기간 (업로드 확인은 URL 만료 후 같은 기간까지 허용)
+     * 확인 전 파일은 미참조 상태이므로 두 기간의 합이 정리 유예 기간보다 짧아야 한다.
+     */
+    @Value("${file.direct-upload.url-ttl:PT15M}")
+    private Duration directUploadTtl = Duration.ofMinutes(15);
+
+    @Value("${file.direct-upload.max-attachment-size:100MB}")
+    private DataSize maxDirectAttachmentSize = DataSize.ofMegabytes(100);
+
+    public String storePlannerImage(MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            throw new GeneralException(ErrorStatus.INVALID_PLANNER_IMAGE);
+        }
+
+        String contentType = image.getContentType();
+        if (!StringUtils.hasText(contentType) || !contentType.startsWith("image/")) {
+            throw new GeneralException(ErrorStatus.INVALID_PLANNER_IMAGE_TYPE);
+        }
+
+        String extension = StringUtils.getFilenameExtension(image.getOriginalFilename());
+        if (contentAddressed) {
+            return storeBlobOrThrow(image, extension, ErrorStatus.PLANNER_IMAGE_UPLOAD_FAILED);
+        }
+
+        String fileName = UUID.randomUUID().toString();
+        if (StringUtils.hasText(extension)) {
+            fileName += "." + extension;
+        }
+
+        String key = PLANNER_DIR + "/" + fileName;
+        try {
+            fileStorage.store(key, image);
+        } catch (IOException e) {
+            log.error("플래너 이미지 저장 실패 - key: {}", key, e);
+            throw new GeneralException(ErrorStatus.PLANNER_IMAGE_UPLOAD_FAILED);
+        }
+
+        return FileStorage.urlOf(key);
+    }
+
+    public String storeTaskCompletionImage(MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            throw new GeneralException(ErrorStatus.INVALID_TASK_COMPLETION_IMAGE);
+        }
+
+        String contentType = image.getContentType();
+        if (!StringUtils.hasText(contentType) || !contentType.startsWith("image/")) {
+            throw new GeneralException(ErrorStatus.INVALID_TASK_COMPLETION_IMAGE_TYPE);
+        }
+
+        String extension = StringUtils.getFilenameExtension(image.getOriginalFilename());
+        if (contentAddressed) {
+            String blobUrl = storeBlobOrThrow(image, extension, ErrorStatus.TASK_COMPLETION_IMAGE_UPLOAD_FAILED);
+            imageVariantGenerator.generateAsync(blobUrl);
+            return blobUrl;
+        }
+
+        String fileName = UUID.randomUUID().toString();
+        if (StringUtils.hasText(extension)) {
+            fileName += "." + extension;
+        }
+
+        String key = TASK_COMPLETION_DIR + "/" + fileName;
+        try {
+            fileStorage.store(key, image);
+        } catch (IOException e) {
+            log.error("과제 완료 이미지 저장 실패 - key: {}", key, e);
+            throw new GeneralException(ErrorStatus.TASK_COMPLETION_IMAGE_UPLOAD_FAILED);
+        }
+
+        String photoUrl = FileStorage.urlOf(key);
+        imageVariantGenerator.generateAsync(photoUrl);
+        return photoUrl;
+    }
+
+    public String storeTaskAttachment(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new GeneralException(ErrorStatus.INVALID_TASK_ATTACHMENT);
+        }
+
+        String contentType = file.getContentType();
+        boolean isPdf = StringUtils.hasText(contentType) && contentType.equalsIgnoreCase("application/pdf");
+        boolean isImage = StringUtils.hasText(contentType) && contentType.startsWith("image/");
+        if (!isPdf && !isImage) {
+            throw new GeneralException(ErrorStatus.INVALID_TASK_ATTACHMENT_TYPE);
+        }
+
+        String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
+        if (!StringUtils.hasText(extension)) {
+            extension = isPdf ? "pdf" : "img";
+        }
+        if (contentAddressed) {
+            return storeBlobOrThrow(file, extension, ErrorStatus.TASK_ATTACHMENT_UPLOAD_FAILED);
+        }
+
+        String key = TASK_ATTACHMENT_DIR + "/" + UUID.randomUUID() + "." + extension;
+        try {
+            fileStorage.store(key, file);
+        } catch (IOException e) {
+            log.error("과제 첨부파일 저장 실패 - key: {}", key, e);
+            throw new GeneralException(ErrorStatus.TASK_ATTACHMENT_UPLOAD_FAILED);
+        }
+
+        return FileStorage.urlOf(key);
+    }
+
+    /**
+     * 과제 첨부파일 직접 업로드 슬롯 발급
+     * owner(예: task:1)는 업로드 토큰에 서명되어, 발급받은 대상에만 업로드를 확인할 수 있다.
+     * 직접 업로드는 서버가 내용을 읽지 않으므로 콘텐츠 주소 blob이 아닌 UUID key로 저장한다.
+     */
+    public DirectUploadSlot prepareTaskAttachmentUpload(
+            String owner, String fileName, String contentType, long contentLength) {
+        boolean isPdf = StringUtils.hasText(contentType) && contentType.equalsIgnoreCase("application/pdf");
+        boolean isImage = StringUtils.hasText(contentType) && contentType.startsWith("image/");
+        if (!isPdf && !isImage) {
+            throw new GeneralException(ErrorStatus.INVALID_TASK_ATTACHMENT_TYPE);
+        }
+        if (contentLength <= 0) {
+            throw new GeneralException(ErrorStatus.INVALID_TASK_ATTACHMENT);
+        }
+        if (contentLength > maxDirectAttachmentSize.toBytes()) {
+            throw new GeneralException(ErrorStatus.TASK_ATTACHMENT_TOO_LARGE);
+        }
+
+        String extension = StringUtils.getFilenameExtension(fileName);
+        extension = extension != null ? extension.toLowerCase(Locale.ROOT) : null;
+        if (extension == null || !SAFE_EXTENSION_PATTERN.matcher(extension).matches()) {
+            extension = isPdf ? "pdf" : "img";
+        }
+
+        String key = TASK_ATTACHMENT_DIR + "/" + UUID.randomUUID() + "." + extension;
+        PresignedUpload upload = fileStorage.presignUpload(key, contentType, contentLength, directUploadTtl);
+        Instant confirmDeadline = upload.getExpiresAt().plus(directUploadTtl);
+        String payload = owner + "\n" + key + "\n" + contentLength + "\n" + confirmDeadline.getEpochSecond();
+        String uploadToken = Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + uploadUrlSigner.sign(payload);
+        return new DirectUploadSlot(key, uploadToken, upload);
+    }
+
+    /**
+     * 직접 업로드 완료 확인 후 첨부파일 URL 반환
+     * 토큰 서명/대상/기한과 저장소에 실제로 올라온 파일 크기를 검증한다.
+     */
+    public String confirmTaskAttachmentUpload(String owner, String uploadToken) {
+        String[] claims = parseUploadToken(uploadToken);
+        if (claims == null
+                || !claims[0].equals(owner)
+                || !claims[1].startsWith(TASK_ATTACHMENT_DIR + "/")
+                || Instant.now().getEpochSecond() > Long.parseLong(claims[3])) {
+            throw new GeneralException(ErrorStatus.INVALID_TASK_ATTACHMENT_UPLOAD_TOKEN);
+        }
+
+        String key = claims[1];
+        long contentLength = Long.parseLong(claims[2]);
+        Optional<FileStat> stat;
+        try {
+            stat = fileStorage.stat(key);
+        } catch (IOException e) {
+            log.error("직접 업로드 확인 실패 - key: {}", key, e);
+            throw new GeneralException(ErrorStatus.TASK_ATTACHMENT_UPLOAD_FAILED);
+        }
+        if (stat.isEmpty() || stat.get().getSize() != contentLength) {
+            throw new GeneralException(ErrorStatus.TASK_ATTACHMENT_NOT_UPLOADED);
+        }
+        return FileStorage.urlOf(key);
+    }
+
+    /**
+     * 서명이 유효하면 [owner, key, contentLength, confirmDeadline], 아니면 null
+     */
+    private String[] parseUploadToken(String uploadToken) {
+        if (!StringUtils.hasText(uploadToken)) {
+            return null;
+        }
+        int separator = uploadToken.indexOf('.');
+        if (separator < 0) {
+            return null;
+        }
+
+        String payload;
+        try {
+            payload = new String(Base64.getUrlDecoder().decode(uploadToken.substring(0, separator)), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!uploadUrlSigner.verify(payload, uploadToken.substring(separator + 1))) {
+            return null;
+        }
+
+        String[] claims = payload.split("\n", -1);
+        return claims.length == 4 ? claims : null;
+    }
+
+    public void deleteTaskCompletionImage(String photoUrl) {
+        if (!StringUtils.hasText(photoUrl)) {
+            return;
+        }
+        if (isBlobUrl(photoUrl)) {
+            if (deleteBlobIfUnreferenced(photoUrl)) {
+                imageVariantGenerator.deleteVariants(photoUrl);
+            }
+            return;
+        }
+
+        String key = keyInDirectory(TASK_COMPLETION_DIR, photoUrl);
+        if (key == null) {
+            return;
+        }
+        try {
+            fileStorage.delete(key);
+        } catch (IOException e) {
+            log.warn("과제 완료 이미지 삭제 실패 - photoUrl: {}", photoUrl, e);
+        }
+        imageVariantGenerator.deleteVariants(FileStorage.urlOf(key));
+    }
+
+    public void deleteTaskAttachment(String attachmentUrl) {
+        if (!StringUtils.hasText(attachmentUrl)) {
+            return;
+        }
+        if (isBlobUrl(attachmentUrl)) {
+            deleteBlobIfUnreferenced(attachmentUrl);
+            return;
+        }
+
+        String key = keyInDirectory(TASK_ATTACHMENT_DIR, attachmentUrl);
+        if (key == null) {
+            return;
+        }
+        try {
+            fileStorage.delete(key);
+        } catch (IOException e) {
+            log.warn("과제 첨부파일 삭제 실패 - attachmentUrl: {}", attachmentUrl, e);
+        }
+    }
+
+    /**
+     * URL의 파일명만 취해 지정 디렉터리의 key로 변환 (다른 디렉터리를 가리키는 URL로 삭제되지 않도록)
+     */
+    private String keyInDirectory(String directory, String fileUrl) {
+        Path fileName = Paths.get(fileUrl).getFileName();
+        return fileName != null ? directory + "/" + fileName : null;
+    }
+
+    private String storeBlobOrThrow(MultipartFile file, String extension, ErrorStatus failureStatus) {
+        try {
+            return storeBlob(file, extension);
+        } catch (IOException e) {
+            log.error("업로드 blob 저장 실패", e);
+            throw new GeneralException(failureStatus);
+        }
+    }
+
+    /**
+     * 콘텐츠 주소 blob 저장
+     * 업로드를 한 번만 읽어 임시 key에 쓰면서 digest를 구하고, 같은 blob이 없을 때만 blob key로 옮긴다.
+     * blob 행 잠금은 호출한 트랜잭션이 커밋될 때까지 유지되어 그 사이 삭제/정리가 이 blob을 지우지 못한다.
+     */
+    private String storeBlob(MultipartFile file, String extension) throws IOException {
+        String tempKey = BLOB_DIR + "/" + UUID.randomUUID() + TEMP_FILE_SUFFIX;
+        MessageDigest messageDigest = sha256();
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), messageDigest)) {
+            fileStorage.store(tempKey, inputStream, file.getSize(), file.getContentType());
+        }
+
+        try {
+            String digest = HexFormat.of().formatHex(messageDigest.digest());
+            String normalizedExtension = extension != null ? extension.toLowerCase(Locale.ROOT) : null;
+            String fileName = normalizedExtension != null && SAFE_EXTENSION_PATTERN.matcher(normalizedExtension).matches()
+                    ? digest + "." + normalizedExtension
+                    : digest;
+
+            String key = BLOB_DIR + "/" + digest.substring(0, 2) + "/" + fileName;
+            uploadBlobRegistry.markUsed(key);
+            if (fileStorage.stat(key).isPresent()) {
+                log.debug("동일한 업로드 blob 재사용 - {}", fileName);
+            } else {
+                fileStorage.move(tempKey, key);
+            }
+            return FileStorage.urlOf(key);
+        } finally {
+            // 재사용한 경우 남은 임시 파일 (옮겼으면 이미 없음)
+            fileStorage.delete(tempKey);
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private boolean isBlobUrl(String fileUrl) {
+        return BLOB_URL_PATTERN.matcher(fileUrl).matches();
+    }
+
+    /**
+     * 더 이상 참조하는 엔티티가 없고 유예 기간이 지난 경우에만 blob 삭제 (삭제했으면 true)
+     */
+    private boolean deleteBlobIfUnreferenced(String blobUrl) {
+        try {
+            return uploadBlobRegistry.deleteIfUnreferenced(
+                    FileStorage.keyOf(blobUrl), Instant.now().minus(cleanupGracePeriod));
+        } catch (IOException e) {
+            log.warn("업로드 blob 삭제 실패 - blobUrl: {}", blobUrl, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.seolstudy.backend.global.storage;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 업로드 이미지에서 파생되는 크기 제한 이미지
+ * 파생 URL은 원본 URL에서 결정적으로 만들어지므로 별도 컬럼 없이 응답에 노출할 수 있다.
+ * 원본 확장자까지 파일명에 남겨, 같은 digest의 a.png와 a.jpg blob이 파생 이미지를 공유하지 않게 한다.
+ */
+public enum ImageVariant {
+
+    DISPLAY(1280, "_w1280"),
+    THUMBNAIL(320, "_w320");
+
+    private static final String VARIANT_EXTENSION = ".jpg";
+
+    private final int maxDimension;
+    private final String suffix;
+
+    ImageVariant(int maxDimension, String suffix) {
+        this.maxDimension = maxDimension;
+        this.suffix = suffix;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    /**
+     * 원본 URL(또는 경로)에 대한 파생 이미지 URL (예: /uploads/a/b.png -> /uploads/a/b.png_w320.jpg)
+     */
+    public String urlOf(String originalUrl) {
+        if (!StringUtils.hasText(originalUrl)) {
+            return null;
+        }
+        return originalUrl + suffix + VARIANT_EXTENSION;
+    }
+
+    /**
+     * 파생 이미지 파일명이면 원본 파일명, 아니면 null (예: b.png_w320.jpg -> b.png)
+     */
+    public static String originalFileNameOf(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        for (ImageVariant variant : values()) {
+            String variantTail = variant.suffix + VARIANT_EXTENSION;
+            if (fileName.endsWith(variantTail) && fileName.length() > variantTail.length()) {
+                return fileName.substring(0, fileName.length() - variantTail.length());
+            }
+        }
+        return null;
+    }
+}
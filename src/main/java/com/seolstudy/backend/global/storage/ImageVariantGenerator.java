@@ -0,0 +1,173 @@
+package com.seolstudy.backend.global.storage;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 업로드 이미지의 크기 제한 표시용 이미지와 썸네일 생성
+ * 업로드 요청 스레드에서는 작업만 등록하고, 디코딩/축소/인코딩은 imageProcessingExecutor에서 수행한다.
+ * 파생 이미지가 모두 준비되면 ImageVariantsGeneratedEvent를 발행하며, 디코딩할 수 없는 형식(HEIC 등)이나
+ * 작업이 거절/실패한 경우에는 발행하지 않으므로 응답은 원본 URL을 계속 사용한다.
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+
+    private final FileStorage fileStorage;
+    private final Executor imageProcessingExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImageVariantGenerator(
+            FileStorage fileStorage,
+            @Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.fileStorage = fileStorage;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 파생 이미지 생성 작업 등록 (블로킹 없음)
+     * 트랜잭션 안이면 커밋 후에 등록해, 완료 이벤트가 원본 URL을 저장한 행에 반영될 수 있게 한다.
+     */
+    public void generateAsync(String originalUrl) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(originalUrl);
+                }
+            });
+            return;
+        }
+        submit(originalUrl);
+    }
+
+    private void submit(String originalUrl) {
+        try {
+            imageProcessingExecutor.execute(() -> generate(originalUrl));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 파생 작업 등록 실패 - originalUrl: {}", originalUrl);
+        }
+    }
+
+    void generate(String originalUrl) {
+        try {
+            if (allVariantsExist(originalUrl)) {
+                eventPublisher.publishEvent(new ImageVariantsGeneratedEvent(originalUrl));
+                return;
+            }
+
+            BufferedImage source;
+            try (InputStream inputStream = fileStorage.open(FileStorage.keyOf(originalUrl))) {
+                source = ImageIO.read(inputStream);
+            }
+            if (source == null) {
+                log.info("파생 이미지를 만들 수 없는 형식입니다 - originalUrl: {}", originalUrl);
+                return;
+            }
+
+            for (ImageVariant variant : ImageVariant.values()) {
+                String targetKey = FileStorage.keyOf(variant.urlOf(originalUrl));
+                if (fileStorage.stat(targetKey).isEmpty()) {
+                    writeJpeg(scale(source, variant.getMaxDimension()), targetKey);
+                }
+            }
+            eventPublisher.publishEvent(new ImageVariantsGeneratedEvent(originalUrl));
+        } catch (IOException | RuntimeException e) {
+            log.warn("파생 이미지 생성 실패 - originalUrl: {}", originalUrl, e);
+        }
+    }
+
+    public void deleteVariants(String originalUrl) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                fileStorage.delete(FileStorage.keyOf(variant.urlOf(originalUrl)));
+            } catch (IOException e) {
+                log.warn("파생 이미지 삭제 실패 - originalUrl: {}", originalUrl, e);
+            }
+        }
+    }
+
+    private boolean allVariantsExist(String originalUrl) throws IOException {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (fileStorage.stat(FileStorage.keyOf(variant.urlOf(originalUrl))).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 긴 변이 maxDimension 이하가 되도록 비율 유지 축소 (JPEG 출력을 위해 RGB로 변환)
+     */
+    private BufferedImage scale(BufferedImage source, int maxDimension) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage scaled = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * 메모리에서 인코딩한 뒤 한 번에 저장해, 완성되지 않은 파생 이미지가 노출되지 않게 한다
+     */
+    private void writeJpeg(BufferedImage image, String targetKey) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("JPEG writer를 찾을 수 없습니다");
+        }
+        ImageWriter writer = writers.next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        byte[] encoded = outputStream.toByteArray();
+        fileStorage.store(targetKey, new ByteArrayInputStream(encoded), encoded.length, JPEG_CONTENT_TYPE);
+    }
+}
@@ -0,0 +1,14 @@
+package com.seolstudy.backend.global.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 원본 이미지의 파생 이미지가 모두 저장된 뒤 발행되는 이벤트 (원본 URL을 참조하는 엔티티에 생성 여부 기록용)
+ */
+@Getter
+@AllArgsConstructor
+public class ImageVariantsGeneratedEvent {
+
+    private final String originalUrl;
+}
@@ -1,157 +1,261 @@
 package com.seolstudy.backend.global.storage;
 
-import com.seolstudy.backend.global.exception.GeneralException;
-import com.seolstudy.backend.global.payload.status.ErrorStatus;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
-import org.springframework.web.multipart.MultipartFile;
-
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
 
+/**
+ * 로컬 디스크 저장소
+ * 모든 쓰기는 같은 디렉터리의 임시 파일에 기록한 뒤 원자적으로 이름을 바꿔 반영한다.
+ * 파일은 WebConfig의 /uploads/** 정적 리소스 핸들러가 직접 응답하고,
+ * 직접 업로드는 HMAC 서명된 단기 URL로 DirectUploadController가 받으며, 같은 key에는 한 번만 쓸 수 있다.
+ */
 @Slf4j
-@Component
-@RequiredArgsConstructor
-public class LocalFileStorage {
+public class LocalFileStorage implements FileStorage {
 
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    static final String DIRECT_UPLOAD_PATH = "/api/uploads/direct";
 
-    public String storePlannerImage(MultipartFile image) {
-        if (image == null || image.isEmpty()) {
-            throw new GeneralException(ErrorStatus.INVALID_PLANNER_IMAGE);
-        }
+    private final Path root;
+    private final UploadUrlSigner uploadUrlSigner;
 
-        String contentType = image.getContentType();
-        if (!StringUtils.hasText(contentType) || !contentType.startsWith("image/")) {
-            throw new GeneralException(ErrorStatus.INVALID_PLANNER_IMAGE_TYPE);
-        }
+    /**
+     * 서명 키를 지정하지 않으면 프로세스마다 임의 키로 서명한다 (단일 노드/테스트용)
+     */
+    public LocalFileStorage(String uploadDir) {
+        this(uploadDir, new UploadUrlSigner(UUID.randomUUID().toString()));
+    }
 
-        String extension = StringUtils.getFilenameExtension(image.getOriginalFilename());
-        String fileName = UUID.randomUUID().toString();
-        if (StringUtils.hasText(extension)) {
-            fileName += "." + extension;
-        }
+    public LocalFileStorage(String uploadDir, UploadUrlSigner uploadUrlSigner) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.uploadUrlSigner = uploadUrlSigner;
+    }
 
-        Path plannerDir = Paths.get(uploadDir, "planners");
+    @Override
+    public void store(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        Path target = resolve(key);
+        Path temp = createTempFile(target);
         try {
-            Files.createDirectories(plannerDir);
-            Path target = plannerDir.resolve(fileName);
-            Files.copy(image.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            log.error("플래너 이미지 저장 실패 - uploadDir: {}", uploadDir, e);
-            throw new GeneralException(ErrorStatus.PLANNER_IMAGE_UPLOAD_FAILED);
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
         }
-
-        return "/uploads/planners/" + fileName;
     }
 
-    public String storeTaskCompletionImage(MultipartFile image) {
-        if (image == null || image.isEmpty()) {
-            throw new GeneralException(ErrorStatus.INVALID_TASK_COMPLETION_IMAGE);
+    @Override
+    public void store(String key, MultipartFile file) throws IOException {
+        Path target = resolve(key);
+        Path temp = createTempFile(target);
+        try {
+            writeFile(file, temp);
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
         }
+    }
 
-        String contentType = image.getContentType();
-        if (!StringUtils.hasText(contentType) || !contentType.startsWith("image/")) {
-            throw new GeneralException(ErrorStatus.INVALID_TASK_COMPLETION_IMAGE_TYPE);
+    /**
+     * key에 파일이 아직 없을 때만 저장 (이미 있으면 기록하지 않고 false)
+     * 임시 파일을 하드 링크로 게시하므로 같은 key에 동시에 써도 한 요청만 성공하고 기존 파일은 바뀌지 않는다.
+     */
+    public boolean storeIfAbsent(String key, InputStream content) throws IOException {
+        Path target = resolve(key);
+        if (Files.exists(target)) {
+            return false;
         }
-
-        String extension = StringUtils.getFilenameExtension(image.getOriginalFilename());
-        String fileName = UUID.randomUUID().toString();
-        if (StringUtils.hasText(extension)) {
-            fileName += "." + extension;
+        Path temp = createTempFile(target);
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            publishIfAbsent(temp, target);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        } finally {
+            Files.deleteIfExists(temp);
         }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
 
-        Path completionDir = Paths.get(uploadDir, "task-completions");
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Optional<FileStat> stat(String key) throws IOException {
         try {
-            Files.createDirectories(completionDir);
-            Path target = completionDir.resolve(fileName);
-            Files.copy(image.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            log.error("과제 완료 이미지 저장 실패 - uploadDir: {}", uploadDir, e);
-            throw new GeneralException(ErrorStatus.TASK_COMPLETION_IMAGE_UPLOAD_FAILED);
+            BasicFileAttributes attributes = Files.readAttributes(resolve(key), BasicFileAttributes.class);
+            return Optional.of(new FileStat(key, attributes.size(), attributes.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
         }
+    }
 
-        return "/uploads/task-completions/" + fileName;
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        Path target = resolve(targetKey);
+        Files.createDirectories(target.getParent());
+        moveIntoPlace(resolve(sourceKey), target);
     }
 
-    public String storeTaskAttachment(MultipartFile file) {
-        if (file == null || file.isEmpty()) {
-            throw new GeneralException(ErrorStatus.INVALID_TASK_ATTACHMENT);
+    @Override
+    public List<FileStat> list(String prefix) throws IOException {
+        Path start = resolve(prefix);
+        Path dir = Files.isDirectory(start) || prefix.endsWith("/") ? start : start.getParent();
+        if (dir == null || !Files.isDirectory(dir)) {
+            return List.of();
         }
 
-        String contentType = file.getContentType();
-        boolean isPdf = StringUtils.hasText(contentType) && contentType.equalsIgnoreCase("application/pdf");
-        boolean isImage = StringUtils.hasText(contentType) && contentType.startsWith("image/");
-        if (!isPdf && !isImage) {
-            throw new GeneralException(ErrorStatus.INVALID_TASK_ATTACHMENT_TYPE);
+        try (Stream<Path> walk = Files.walk(dir)) {
+            return walk.filter(Files::isRegularFile)
+                    .map(this::toStat)
+                    .flatMap(Optional::stream)
+                    .filter(stat -> stat.getKey().startsWith(prefix))
+                    .toList();
         }
+    }
 
-        String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
-        String fileName = UUID.randomUUID().toString();
-        if (StringUtils.hasText(extension)) {
-            fileName += "." + extension;
-        } else if (isPdf) {
-            fileName += ".pdf";
-        } else {
-            fileName += ".img";
-        }
+    /**
+     * 로컬 파일은 인증된 /uploads/** 정적 리소스 핸들러가 제공하므로 만료 없는 URL을 그대로 쓴다
+     */
+    @Override
+    public String presignedUrl(String key, Duration ttl) {
+        return FileStorage.urlOf(key);
+    }
 
-        Path attachmentDir = Paths.get(uploadDir, "task-attachments");
-        try {
-            Files.createDirectories(attachmentDir);
-            Path target = attachmentDir.resolve(fileName);
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            log.error("과제 첨부파일 저장 실패 - uploadDir: {}", uploadDir, e);
-            throw new GeneralException(ErrorStatus.TASK_ATTACHMENT_UPLOAD_FAILED);
-        }
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long contentLength, Duration ttl) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        long expires = expiresAt.getEpochSecond();
+        String signature = uploadUrlSigner.sign(uploadPayload(key, contentType, contentLength, expires));
 
-        return "/uploads/task-attachments/" + fileName;
+        String url = DIRECT_UPLOAD_PATH
+                + "?key=" + encode(key)
+                + "&contentType=" + encode(contentType)
+                + "&contentLength=" + contentLength
+                + "&expires=" + expires
+                + "&signature=" + signature;
+        return new PresignedUpload(url, "PUT", Map.of("Content-Type", contentType), expiresAt);
     }
 
-    public void deleteTaskCompletionImage(String photoUrl) {
-        if (!StringUtils.hasText(photoUrl)) {
-            return;
+    /**
+     * 직접 업로드 URL의 서명과 만료 시각 검증
+     */
+    public boolean isValidUpload(String key, String contentType, long contentLength, long expires, String signature) {
+        if (Instant.now().getEpochSecond() > expires) {
+            return false;
         }
+        return uploadUrlSigner.verify(uploadPayload(key, contentType, contentLength, expires), signature);
+    }
 
-        Path fileName = Paths.get(photoUrl).getFileName();
-        if (fileName == null) {
-            return;
+    private String uploadPayload(String key, String contentType, long contentLength, long expires) {
+        return "PUT\n" + key + "\n" + contentType + "\n" + contentLength + "\n" + expires;
+    }
+
+    private String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * key를 업로드 루트 아래 경로로 변환 (루트 밖을 가리키는 key는 거부)
+     */
+    Path resolve(String key) throws IOException {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IOException("업로드 루트 밖의 경로입니다: " + key);
         }
+        return path;
+    }
 
-        Path completionDir = Paths.get(uploadDir, "task-completions");
-        Path target = completionDir.resolve(fileName.toString());
+    private Optional<FileStat> toStat(Path path) {
         try {
-            Files.deleteIfExists(target);
+            String key = root.relativize(path).toString().replace('\\', '/');
+            return Optional.of(new FileStat(key, Files.size(path), Files.getLastModifiedTime(path).toInstant()));
         } catch (IOException e) {
-            log.warn("과제 완료 이미지 삭제 실패 - photoUrl: {}", photoUrl, e);
+            // 조회 도중 삭제된 파일
+            return Optional.empty();
         }
     }
 
-    public void deleteTaskAttachment(String attachmentUrl) {
-        if (!StringUtils.hasText(attachmentUrl)) {
-            return;
+    private Path createTempFile(Path target) throws IOException {
+        Path dir = target.getParent();
+        Files.createDirectories(dir);
+        return Files.createTempFile(dir, target.getFileName().toString(), TEMP_FILE_SUFFIX);
+    }
+
+    private void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
         }
+    }
 
-        Path fileName = Paths.get(attachmentUrl).getFileName();
-        if (fileName == null) {
-            return;
+    private void publishIfAbsent(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (UnsupportedOperationException e) {
+            // 하드 링크를 지원하지 않는 파일 시스템은 덮어쓰기 없는 이동으로 대체
+            Files.move(source, target);
         }
+    }
 
-        Path attachmentDir = Paths.get(uploadDir, "task-attachments");
-        Path target = attachmentDir.resolve(fileName.toString());
+    /**
+     * 업로드 파일을 target 위치에 한 번만 기록
+     * 서블릿 컨테이너가 디스크에 버퍼링한 임시 파일은 transferTo로 이동(rename)하고,
+     * 이동할 수 없으면 FileChannel.transferFrom으로 복사한다.
+     */
+    private void writeFile(MultipartFile file, Path target) throws IOException {
         try {
-            Files.deleteIfExists(target);
-        } catch (IOException e) {
-            log.warn("과제 첨부파일 삭제 실패 - attachmentUrl: {}", attachmentUrl, e);
+            file.transferTo(target.toFile());
+            return;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("업로드 파일 이동 실패, 채널 복사로 대체 - target: {}", target, e);
+        }
+        copyWithChannel(file, target);
+    }
+
+    private void copyWithChannel(MultipartFile file, Path target) throws IOException {
+        try (InputStream inputStream = file.getInputStream();
+             ReadableByteChannel source = inputStream instanceof FileInputStream fileInputStream
+                     ? fileInputStream.getChannel()
+                     : Channels.newChannel(inputStream);
+             FileChannel destination = FileChannel.open(target,
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = destination.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
         }
     }
 }
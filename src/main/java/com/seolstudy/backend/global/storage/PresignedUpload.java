@@ -0,0 +1,19 @@
+package com.seolstudy.backend.global.storage;
+
+import java.time.Instant;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 클라이언트가 앱 서버를 거치지 않고 저장소에 직접 올릴 때 사용할 요청 정보
+ */
+@Getter
+@AllArgsConstructor
+public class PresignedUpload {
+
+    private final String url;
+    private final String method;
+    private final Map<String, String> headers;
+    private final Instant expiresAt;
+}
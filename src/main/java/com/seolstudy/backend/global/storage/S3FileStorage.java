@@ -0,0 +1,201 @@
+package com.seolstudy.backend.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+/**
+ * S3 프로토콜 오브젝트 스토리지 (AWS S3, MinIO 등)
+ * 여러 앱 노드가 같은 버킷을 공유하므로 로컬 디스크 없이 수평 확장할 수 있다.
+ * part 크기보다 큰 업로드는 multipart upload로 part 단위 스트리밍하여, 파일 크기와 관계없이 part 하나만 메모리에 둔다.
+ */
+@Slf4j
+public class S3FileStorage implements FileStorage {
+
+    /**
+     * S3 multipart upload의 마지막 part를 제외한 최소 part 크기
+     */
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucket;
+    private final int partSize;
+
+    public S3FileStorage(S3Client s3Client, S3Presigner s3Presigner, String bucket, int partSize) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucket = bucket;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+    }
+
+    @Override
+    public void store(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        byte[] firstPart = content.readNBytes(partSize);
+        try {
+            if (firstPart.length < partSize) {
+                s3Client.putObject(builder -> builder.bucket(bucket).key(key).contentType(contentType),
+                        RequestBody.fromBytes(firstPart));
+                return;
+            }
+            storeMultipart(key, firstPart, content, contentType);
+        } catch (SdkException e) {
+            throw new IOException("S3 업로드 실패 - key: " + key, e);
+        }
+    }
+
+    /**
+     * multipart upload (완료 전 실패하면 업로드를 중단해 미완성 part가 과금되지 않게 한다)
+     */
+    private void storeMultipart(String key, byte[] firstPart, InputStream content, String contentType)
+            throws IOException {
+        String uploadId = s3Client.createMultipartUpload(builder -> builder.bucket(bucket).key(key).contentType(contentType))
+                .uploadId();
+        List<CompletedPart> completedParts = new ArrayList<>();
+        try {
+            byte[] part = firstPart;
+            while (part.length > 0) {
+                int partNumber = completedParts.size() + 1;
+                String eTag = s3Client.uploadPart(
+                        builder -> builder.bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber),
+                        RequestBody.fromBytes(part)
+                ).eTag();
+                completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                part = content.readNBytes(partSize);
+            }
+
+            s3Client.completeMultipartUpload(builder -> builder.bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(completedParts)));
+        } catch (IOException | SdkException e) {
+            abortQuietly(key, uploadId);
+            throw e;
+        }
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(builder -> builder.bucket(bucket).key(key).uploadId(uploadId));
+        } catch (SdkException e) {
+            log.warn("S3 multipart upload 중단 실패 - key: {}, uploadId: {}", key, uploadId, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return s3Client.getObject(builder -> builder.bucket(bucket).key(key));
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw new IOException("S3 조회 실패 - key: " + key, e);
+        }
+    }
+
+    /**
+     * S3 삭제는 멱등이라 대상 존재 여부를 알려주지 않으므로 항상 true
+     */
+    @Override
+    public boolean delete(String key) throws IOException {
+        try {
+            s3Client.deleteObject(builder -> builder.bucket(bucket).key(key));
+            return true;
+        } catch (SdkException e) {
+            throw new IOException("S3 삭제 실패 - key: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<FileStat> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3Client.headObject(builder -> builder.bucket(bucket).key(key));
+            return Optional.of(new FileStat(key, head.contentLength(), head.lastModified()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("S3 메타데이터 조회 실패 - key: " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("S3 메타데이터 조회 실패 - key: " + key, e);
+        }
+    }
+
+    /**
+     * S3에는 이름 변경이 없으므로 서버 측 복사 후 원본을 삭제한다 (내용은 전송하지 않음)
+     */
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        try {
+            s3Client.copyObject(builder -> builder
+                    .sourceBucket(bucket).sourceKey(sourceKey)
+                    .destinationBucket(bucket).destinationKey(targetKey));
+            s3Client.deleteObject(builder -> builder.bucket(bucket).key(sourceKey));
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(sourceKey);
+        } catch (SdkException e) {
+            throw new IOException("S3 이동 실패 - " + sourceKey + " -> " + targetKey, e);
+        }
+    }
+
+    @Override
+    public List<FileStat> list(String prefix) throws IOException {
+        try {
+            return s3Client.listObjectsV2Paginator(builder -> builder.bucket(bucket).prefix(prefix))
+                    .contents()
+                    .stream()
+                    .map(object -> new FileStat(object.key(), object.size(), object.lastModified()))
+                    .toList();
+        } catch (SdkException e) {
+            throw new IOException("S3 목록 조회 실패 - prefix: " + prefix, e);
+        }
+    }
+
+    @Override
+    public String presignedUrl(String key, Duration ttl) {
+        return s3Presigner.presignGetObject(builder -> builder
+                        .signatureDuration(ttl)
+                        .getObjectRequest(request -> request.bucket(bucket).key(key)))
+                .url()
+                .toString();
+    }
+
+    /**
+     * presigned PUT: 서명된 Content-Type/Content-Length와 다른 요청은 스토리지가 거부한다
+     * If-None-Match: * 도 서명하므로 같은 URL을 다시 보내도 이미 올라온 객체를 덮어쓰지 못한다 (412).
+     */
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long contentLength, Duration ttl) {
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(builder -> builder
+                .signatureDuration(ttl)
+                .putObjectRequest(request -> request.bucket(bucket).key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .ifNoneMatch("*")));
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUpload(presigned.url().toString(), presigned.httpRequest().method().name(),
+                headers, presigned.expiration());
+    }
+}
@@ -0,0 +1,33 @@
+package com.seolstudy.backend.global.storage;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콘텐츠 주소 blob 사용 기록 (blob key당 한 행)
+ * 재사용과 삭제가 모두 이 행을 잠근 상태에서 진행되며, UploadBlobRegistry가 JDBC로 직접 다룬다.
+ */
+@Entity
+@Table(name = UploadBlob.TABLE)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadBlob {
+
+    static final String TABLE = "upload_blob";
+    static final String KEY_COLUMN = "blob_key";
+    static final String LAST_USED_AT_COLUMN = "last_used_at";
+
+    @Id
+    @Column(name = KEY_COLUMN, length = 100)
+    private String key;
+
+    @Column(name = LAST_USED_AT_COLUMN, nullable = false)
+    private LocalDateTime lastUsedAt;
+}
@@ -0,0 +1,109 @@
+package com.seolstudy.backend.global.storage;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 콘텐츠 주소 blob의 재사용과 삭제 직렬화
+ * 재사용(markUsed)은 blob 행을 잠근 채 참조 엔티티를 저장하는 트랜잭션이 끝날 때까지 잠금을 유지하고,
+ * 삭제(deleteIfUnreferenced)는 같은 행을 잠근 뒤에 유예 기간과 참조 수를 확인한다.
+ * 따라서 삭제 쪽이 세는 참조 수에는 먼저 잠금을 잡았던 재사용 트랜잭션의 커밋 결과가 항상 포함된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadBlobRegistry {
+
+    private static final String UPDATE_SQL = "UPDATE " + UploadBlob.TABLE
+            + " SET " + UploadBlob.LAST_USED_AT_COLUMN + " = ? WHERE " + UploadBlob.KEY_COLUMN + " = ?";
+    private static final String INSERT_SQL = "INSERT INTO " + UploadBlob.TABLE
+            + " (" + UploadBlob.KEY_COLUMN + ", " + UploadBlob.LAST_USED_AT_COLUMN + ") VALUES (?, ?)";
+    private static final String SELECT_FOR_UPDATE_SQL = "SELECT " + UploadBlob.LAST_USED_AT_COLUMN
+            + " FROM " + UploadBlob.TABLE + " WHERE " + UploadBlob.KEY_COLUMN + " = ? FOR UPDATE";
+    private static final String DELETE_SQL = "DELETE FROM " + UploadBlob.TABLE
+            + " WHERE " + UploadBlob.KEY_COLUMN + " = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FileReferenceCounter fileReferenceCounter;
+    private final FileStorage fileStorage;
+
+    /**
+     * blob 행을 잠그고 사용 시각 갱신
+     * 호출한 트랜잭션이 끝날 때까지 같은 blob의 삭제와 정리가 대기한다.
+     */
+    @Transactional
+    public void markUsed(String key) {
+        Timestamp now = Timestamp.from(Instant.now());
+        if (jdbcTemplate.update(UPDATE_SQL, now, key) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, key, now);
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 만든 경우 그 트랜잭션이 끝난 뒤 잠금을 얻는다
+            jdbcTemplate.update(UPDATE_SQL, now, key);
+        }
+    }
+
+    /**
+     * 행 잠금을 얻은 뒤 usedBefore 이전에 마지막으로 쓰였고 참조가 없는 blob만 삭제 (삭제했거나 이미 없으면 true)
+     */
+    @Transactional
+    public boolean deleteIfUnreferenced(String key, Instant usedBefore) throws IOException {
+        Optional<Instant> lastUsedAt = lockLastUsedAt(key);
+        if (lastUsedAt.isEmpty()) {
+            return true;
+        }
+        if (!lastUsedAt.get().isBefore(usedBefore)) {
+            log.debug("최근 사용된 blob 삭제 보류 - {}", key);
+            return false;
+        }
+
+        long references = fileReferenceCounter.countReferences(FileStorage.urlOf(key));
+        if (references > 0) {
+            log.debug("참조 중인 blob 유지 - {} ({}건)", key, references);
+            return false;
+        }
+
+        fileStorage.delete(key);
+        jdbcTemplate.update(DELETE_SQL, key);
+        return true;
+    }
+
+    /**
+     * blob 행을 잠그고 마지막 사용 시각 반환
+     * 행이 없는 이전 blob은 파일 수정 시각으로 행을 만들어 잠그고, 파일도 없으면 empty
+     */
+    private Optional<Instant> lockLastUsedAt(String key) throws IOException {
+        List<Instant> locked = selectForUpdate(key);
+        if (!locked.isEmpty()) {
+            return Optional.of(locked.get(0));
+        }
+
+        Optional<FileStat> stat = fileStorage.stat(key);
+        if (stat.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, key, Timestamp.from(stat.get().getLastModified()));
+            return Optional.of(stat.get().getLastModified());
+        } catch (DuplicateKeyException e) {
+            // 그 사이 재사용된 경우 재사용 트랜잭션이 끝난 뒤의 값으로 판단한다
+            return selectForUpdate(key).stream().findFirst();
+        }
+    }
+
+    private List<Instant> selectForUpdate(String key) {
+        return jdbcTemplate.query(SELECT_FOR_UPDATE_SQL,
+                (rs, rowNum) -> rs.getTimestamp(1).toInstant(), key);
+    }
+}
@@ -0,0 +1,43 @@
+package com.seolstudy.backend.global.storage;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.URI;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 오브젝트 스토리지 사용 시 /uploads/** 요청을 presigned URL로 리다이렉트
+ * DB에 저장된 "/uploads/..." URL을 그대로 유지하면서, 파일 바이트는 앱 노드를 거치지 않고 스토리지가 직접 응답한다.
+ * 로컬 저장소에서는 WebConfig의 정적 리소스 핸들러가 같은 경로를 처리한다.
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+public class UploadRedirectController {
+
+    private static final Duration PRESIGNED_URL_TTL = Duration.ofMinutes(10);
+
+    private final FileStorage fileStorage;
+
+    @GetMapping("/uploads/**")
+    public ResponseEntity<Void> redirect(HttpServletRequest request) {
+        String key = FileStorage.keyOf(request.getRequestURI().substring(request.getContextPath().length()));
+        if (key == null || key.contains("..")) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 리다이렉트 응답은 presigned URL이 만료되기 전까지만 캐시
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(fileStorage.presignedUrl(key, PRESIGNED_URL_TTL)))
+                .cacheControl(CacheControl.maxAge(PRESIGNED_URL_TTL.dividedBy(2)).cachePrivate())
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.seolstudy.backend.global.storage;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 디렉터리 주기 정리
+ * FileStorage에 저장된 파일 목록을 REFERENCE_BATCH_SIZE개씩 나눠 묶음마다 IN 조회로 참조 여부를 확인하고,
+ * 유예 기간이 지난 미참조 파일, 남은 임시 파일(*.tmp), 원본이 사라진 파생 이미지를 삭제한다.
+ * 참조 중인 URL 전체를 메모리에 올리지 않으므로 엔티티 수가 늘어도 한 번에 읽는 양은 묶음 크기로 제한된다.
+ * 여러 엔티티가 공유하는 blob은 조회 이후 재사용되었을 수 있으므로 UploadBlobRegistry가 잠금 안에서 다시 확인한 뒤 삭제한다.
+ * 지연 삭제가 실패하거나 건너뛴 파일도 여기서 회수되므로 디스크 사용량이 참조 중인 파일 수준으로 유지된다.
+ */
+@Slf4j
+@Component
+public class UploadSweeper {
+
+    private static final List<String> SWEPT_DIRECTORIES =
+            List.of("task-attachments", "task-completions", "planners", "blobs");
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BLOB_PREFIX = "blobs/";
+    static final int REFERENCE_BATCH_SIZE = 500;
+
+    private final FileReferenceCounter fileReferenceCounter;
+    private final UploadBlobRegistry uploadBlobRegistry;
+    private final FileStorage fileStorage;
+    private final Duration gracePeriod;
+    private final boolean enabled;
+
+    public UploadSweeper(
+            FileReferenceCounter fileReferenceCounter,
+            UploadBlobRegistry uploadBlobRegistry,
+            FileStorage fileStorage,
+            @Value("${file.cleanup.grace-period:PT1H}") Duration gracePeriod,
+            @Value("${file.cleanup.sweep-enabled:true}") boolean enabled
+    ) {
+        this.fileReferenceCounter = fileReferenceCounter;
+        this.uploadBlobRegistry = uploadBlobRegistry;
+        this.fileStorage = fileStorage;
+        this.gracePeriod = gracePeriod;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${file.cleanup.sweep-interval:PT1H}",
+            initialDelayString = "${file.cleanup.sweep-initial-delay:PT5M}"
+    )
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int deleted = sweep(Instant.now());
+            if (deleted > 0) {
+                log.info("업로드 정리 완료 - {}건 삭제", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("업로드 정리 실패", e);
+        }
+    }
+
+    /**
+     * now 기준으로 유예 기간이 지난 파일만 정리하고 삭제한 파일 수를 반환
+     */
+    int sweep(Instant now) {
+        Instant cutoff = now.minus(gracePeriod);
+
+        int deleted = 0;
+        for (String directory : SWEPT_DIRECTORIES) {
+            try {
+                deleted += sweepDirectory(fileStorage.list(directory + "/"), cutoff);
+            } catch (IOException e) {
+                log.warn("업로드 목록 조회 실패 - {}", directory, e);
+            }
+        }
+        return deleted;
+    }
+
+    private int sweepDirectory(List<FileStat> files, Instant cutoff) {
+        int deleted = 0;
+        List<FileStat> variants = new ArrayList<>();
+        Set<String> remainingOriginalKeys = new HashSet<>();
+        for (int from = 0; from < files.size(); from += REFERENCE_BATCH_SIZE) {
+            List<FileStat> batch = files.subList(from, Math.min(from + REFERENCE_BATCH_SIZE, files.size()));
+            Set<String> referencedUrls = fileReferenceCounter.findReferencedUrls(candidateUrlsOf(batch, cutoff));
+            for (FileStat file : batch) {
+                String key = file.getKey();
+                if (isVariant(key)) {
+                    variants.add(file);
+                    continue;
+                }
+
+                boolean expired = file.getLastModified().isBefore(cutoff);
+                if (expired && key.endsWith(TEMP_FILE_SUFFIX) && delete(key)) {
+                    deleted++;
+                    continue;
+                }
+                if (expired && !referencedUrls.contains(FileStorage.urlOf(key))) {
+                    if (key.startsWith(BLOB_PREFIX) ? deleteBlob(key, cutoff) : delete(key)) {
+                        deleted++;
+                        continue;
+                    }
+                }
+                remainingOriginalKeys.add(key);
+            }
+        }
+
+        // 원본이 삭제된 파생 이미지 정리
+        for (FileStat variant : variants) {
+            String key = variant.getKey();
+            String originalKey = key.substring(0, key.lastIndexOf('/') + 1) + ImageVariant.originalFileNameOf(fileNameOf(key));
+            if (!remainingOriginalKeys.contains(originalKey)
+                    && variant.getLastModified().isBefore(cutoff)
+                    && delete(key)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 묶음 안에서 참조 여부를 확인해야 하는 파일(유예 기간이 지난 원본)의 URL
+     */
+    private List<String> candidateUrlsOf(List<FileStat> batch, Instant cutoff) {
+        return batch.stream()
+                .filter(file -> file.getLastModified().isBefore(cutoff))
+                .map(FileStat::getKey)
+                .filter(key -> !isVariant(key) && !key.endsWith(TEMP_FILE_SUFFIX))
+                .map(FileStorage::urlOf)
+                .toList();
+    }
+
+    private boolean isVariant(String key) {
+        return ImageVariant.originalFileNameOf(fileNameOf(key)) != null;
+    }
+
+    private String fileNameOf(String key) {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+
+    private boolean deleteBlob(String key, Instant cutoff) {
+        try {
+            return uploadBlobRegistry.deleteIfUnreferenced(key, cutoff);
+        } catch (IOException | RuntimeException e) {
+            log.warn("미참조 blob 삭제 실패 - {}", key, e);
+            return false;
+        }
+    }
+
+    private boolean delete(String key) {
+        try {
+            boolean deleted = fileStorage.delete(key);
+            if (deleted) {
+                log.debug("미참조 업로드 파일 삭제 - {}", key);
+            }
+            return deleted;
+        } catch (IOException e) {
+            log.warn("미참조 업로드 파일 삭제 실패 - {}", key, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.seolstudy.backend.global.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 직접 업로드 URL/토큰 HMAC-SHA256 서명
+ * 서명만으로 권한을 확인하므로 별도 세션이나 DB 상태 없이 어느 앱 노드에서나 검증할 수 있다.
+ * JWT 서명 키를 그대로 쓰지 않고, 전용 키(file.direct-upload.signing-secret)가 없으면
+ * JWT 키에서 용도 라벨로 파생한 키(HKDF-SHA256)를 쓴다.
+ */
+@Component
+public class UploadUrlSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    static final String KEY_DERIVATION_LABEL = "seolstudy/direct-upload-signing/v1";
+
+    private final SecretKeySpec key;
+
+    @Autowired
+    public UploadUrlSigner(
+            @Value("${file.direct-upload.signing-secret:}") String signingSecret,
+            @Value("${jwt.secret:}") String jwtSecret
+    ) {
+        this(StringUtils.hasText(signingSecret)
+                ? signingSecret.getBytes(StandardCharsets.UTF_8)
+                : deriveKey(jwtSecret));
+    }
+
+    /**
+     * secret을 그대로 서명 키로 사용
+     */
+    public UploadUrlSigner(String secret) {
+        this(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UploadUrlSigner(byte[] keyBytes) {
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    public String sign(String payload) {
+        byte[] signature = hmac(key, payload.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    /**
+     * 상수 시간 비교로 서명 검증
+     */
+    public boolean verify(String payload, String signature) {
+        if (signature == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(payload).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * HKDF-SHA256 (salt 없음, info = KEY_DERIVATION_LABEL, 출력 32바이트)
+     */
+    static byte[] deriveKey(String masterSecret) {
+        if (!StringUtils.hasText(masterSecret)) {
+            throw new IllegalStateException("file.direct-upload.signing-secret 또는 jwt.secret 설정이 필요합니다");
+        }
+        byte[] pseudoRandomKey = hmac(new SecretKeySpec(new byte[32], ALGORITHM),
+                masterSecret.getBytes(StandardCharsets.UTF_8));
+        byte[] label = KEY_DERIVATION_LABEL.getBytes(StandardCharsets.UTF_8);
+        byte[] info = ByteBuffer.allocate(label.length + 1).put(label).put((byte) 1).array();
+        return hmac(new SecretKeySpec(pseudoRandomKey, ALGORITHM), info);
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("업로드 URL 서명에 실패했습니다", e);
+        }
+    }
+}
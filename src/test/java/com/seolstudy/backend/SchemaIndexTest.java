@@ -0,0 +1,94 @@
+package com.seolstudy.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 엔티티에 선언한 인덱스가 생성된 스키마(H2)에 반영되는지 검증
+ */
+@DataJpaTest
+class SchemaIndexTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("과제 조회용 복합 인덱스 생성")
+    void 과제_복합_인덱스_생성() throws Exception {
+        assertThat(indexColumns("TASK", false))
+                .contains(List.of("MENTEE_ID", "TASK_DATE", "SUBJECT_ID"));
+    }
+
+    @Test
+    @DisplayName("피드백 조회용 복합 인덱스 및 과제별 인덱스 생성")
+    void 피드백_인덱스_생성() throws Exception {
+        assertThat(indexColumns("FEEDBACK", false))
+                .contains(List.of("MENTEE_ID", "FEEDBACK_DATE", "CREATED_AT"), List.of("TASK_ID"));
+    }
+
+    @Test
+    @DisplayName("멘토링 활성 관계 조회용 복합 인덱스 생성")
+    void 멘토링_복합_인덱스_생성() throws Exception {
+        assertThat(indexColumns("MENTORING", false))
+                .contains(List.of("MENTOR_ID", "IS_ACTIVE"), List.of("MENTEE_ID", "IS_ACTIVE"));
+    }
+
+    @Test
+    @DisplayName("플래너 조회용 복합 인덱스 생성")
+    void 플래너_복합_인덱스_생성() throws Exception {
+        assertThat(indexColumns("PLANNER", false))
+                .contains(List.of("MENTEE_ID", "PLANNER_DATE"));
+    }
+
+    @Test
+    @DisplayName("과제 완료 과제별 인덱스 생성")
+    void 과제_완료_인덱스_생성() throws Exception {
+        assertThat(indexColumns("TASK_COMPLETION", false))
+                .contains(List.of("TASK_ID"));
+    }
+
+    @Test
+    @DisplayName("업로드 파일 참조 수 조회용 URL 인덱스 생성")
+    void 업로드_파일_URL_인덱스_생성() throws Exception {
+        assertThat(indexColumns("TASK", false)).contains(List.of("PDF_FILE_URL"));
+        assertThat(indexColumns("TASK_COMPLETION", false)).contains(List.of("COMPLETION_PHOTO_URL"));
+        assertThat(indexColumns("PLANNER", false)).contains(List.of("IMAGE_URL"));
+    }
+
+    /**
+     * 테이블의 인덱스별 컬럼 목록 (컬럼 순서 유지)
+     */
+    private List<List<String>> indexColumns(String table, boolean uniqueOnly) throws Exception {
+        Map<String, TreeMap<Short, String>> indexes = new TreeMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rs = metaData.getIndexInfo(null, null, table, uniqueOnly, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String columnName = rs.getString("COLUMN_NAME");
+                    if (indexName == null || columnName == null) {
+                        continue;
+                    }
+                    indexes.computeIfAbsent(indexName, name -> new TreeMap<>())
+                            .put(rs.getShort("ORDINAL_POSITION"), columnName.toUpperCase());
+                }
+            }
+        }
+
+        List<List<String>> result = new ArrayList<>();
+        indexes.values().forEach(columns -> result.add(new ArrayList<>(columns.values())));
+        return result;
+    }
+}
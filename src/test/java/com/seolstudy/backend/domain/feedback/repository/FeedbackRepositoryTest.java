@@ -2,6 +2,7 @@ package com.seolstudy.backend.domain.feedback.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.seolstudy.backend.domain.feedback.dto.FeedbackResponse;
 import com.seolstudy.backend.domain.feedback.entity.Feedback;
 import com.seolstudy.backend.domain.subject.entity.Subject;
 import com.seolstudy.backend.domain.subject.repository.SubjectRepository;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 @DataJpaTest
 public class FeedbackRepositoryTest {
@@ -83,6 +85,67 @@ public class FeedbackRepositoryTest {
         assertThat(feedbacks.get(0).getDetailContent()).isEqualTo("피드백1"); // 최신순
     }
 
+    @Test
+    @DisplayName("특정 멘티의 피드백 응답 목록 조회")
+    void 특정_멘티의_피드백_응답_목록_조회() {
+        //given
+        User mentor = createAndSaveUser("mentor1", "멘토1", UserRole.MENTOR);
+        User mentee = createAndSaveUser("mentee1", "멘티1", UserRole.MENTEE);
+        Subject subject = createAndSaveSubject("수학", "MATH");
+        Task task1 = createAndSaveTask(mentor, mentee, subject, LocalDate.now());
+        Task task2 = createAndSaveTask(mentor, mentee, subject, LocalDate.now().minusDays(1));
+
+        createAndSaveFeedback(task1, mentee, mentor, subject, LocalDate.now(), "피드백1");
+        createAndSaveFeedback(task2, mentee, mentor, subject, LocalDate.now().minusDays(1), "피드백2");
+
+        //when
+        List<FeedbackResponse> responses = feedbackRepository.findResponsesByMenteeId(mentee.getId(),
+                PageRequest.ofSize(10));
+
+        //then
+        assertThat(responses).hasSize(2);
+        FeedbackResponse latest = responses.get(0); // 최신순
+        assertThat(latest.getDetailContent()).isEqualTo("피드백1");
+        assertThat(latest.getTaskId()).isEqualTo(task1.getId());
+        assertThat(latest.getTaskName()).isEqualTo("과제");
+        assertThat(latest.getMenteeName()).isEqualTo("멘티1");
+        assertThat(latest.getMentorName()).isEqualTo("멘토1");
+        assertThat(latest.getSubjectName()).isEqualTo("수학");
+        assertThat(latest.getSubjectCode()).isEqualTo("MATH");
+    }
+
+    @Test
+    @DisplayName("특정 멘티의 피드백 응답 목록 커서 이후 조회")
+    void 특정_멘티의_피드백_응답_목록_커서_이후_조회() {
+        //given
+        User mentor = createAndSaveUser("mentor1", "멘토1", UserRole.MENTOR);
+        User mentee = createAndSaveUser("mentee1", "멘티1", UserRole.MENTEE);
+        Subject subject = createAndSaveSubject("수학", "MATH");
+        LocalDate today = LocalDate.now();
+
+        for (int i = 1; i <= 3; i++) {
+            Task task = createAndSaveTask(mentor, mentee, subject, today);
+            createAndSaveFeedback(task, mentee, mentor, subject, today, "오늘 피드백" + i);
+        }
+        Task oldTask = createAndSaveTask(mentor, mentee, subject, today.minusDays(1));
+        createAndSaveFeedback(oldTask, mentee, mentor, subject, today.minusDays(1), "어제 피드백");
+
+        List<FeedbackResponse> firstPage = feedbackRepository.findResponsesByMenteeId(mentee.getId(),
+                PageRequest.ofSize(2));
+        FeedbackResponse last = firstPage.get(firstPage.size() - 1);
+
+        //when
+        List<FeedbackResponse> nextPage = feedbackRepository.findResponsesByMenteeIdAfter(mentee.getId(),
+                last.getFeedbackDate(), last.getCreatedAt(), last.getFeedbackId(), PageRequest.ofSize(2));
+
+        //then
+        assertThat(firstPage).hasSize(2);
+        assertThat(nextPage).hasSize(2);
+        assertThat(nextPage).extracting("feedbackId")
+                .doesNotContainAnyElementsOf(firstPage.stream().map(FeedbackResponse::getFeedbackId).toList());
+        assertThat(nextPage.get(1).getDetailContent()).isEqualTo("어제 피드백");
+    }
+
     @Test
     @DisplayName("특정 과제의 피드백 조회")
     void 특정_과제의_피드백_조회() {
@@ -0,0 +1,108 @@
+package com.seolstudy.backend.domain.feedback.service;
+
+import static com.seolstudy.backend.support.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seolstudy.backend.domain.feedback.dto.FeedbackListResponse;
+import com.seolstudy.backend.domain.feedback.entity.Feedback;
+import com.seolstudy.backend.domain.feedback.repository.FeedbackRepository;
+import com.seolstudy.backend.domain.subject.SubjectCatalog;
+import com.seolstudy.backend.domain.subject.entity.Subject;
+import com.seolstudy.backend.domain.subject.repository.SubjectRepository;
+import com.seolstudy.backend.domain.task.entity.LearningMaterialType;
+import com.seolstudy.backend.domain.task.entity.Task;
+import com.seolstudy.backend.domain.task.entity.TaskType;
+import com.seolstudy.backend.domain.task.repository.TaskRepository;
+import com.seolstudy.backend.domain.user.entity.User;
+import com.seolstudy.backend.domain.user.entity.UserRole;
+import com.seolstudy.backend.domain.user.repository.UserRepository;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 서비스 호출당 쿼리 수 회귀 테스트
+ */
+@DataJpaTest
+@Import({FeedbackService.class, SubjectCatalog.class})
+class FeedbackServiceQueryCountTest {
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SubjectRepository subjectRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("멘티 피드백 목록 조회는 피드백 수와 무관하게 쿼리 2회 이내")
+    void 멘티_피드백_목록_조회_쿼리_수() {
+        //given
+        User mentor = createAndSaveUser("mentor1", "멘토1", UserRole.MENTOR);
+        User mentee = createAndSaveUser("mentee1", "멘티1", UserRole.MENTEE);
+        Subject subject = subjectRepository.save(Subject.builder()
+                .subjectName("수학")
+                .subjectCode("MATH")
+                .build());
+
+        for (int i = 0; i < 5; i++) {
+            Task task = createAndSaveTask(mentor, mentee, subject, LocalDate.now().minusDays(i));
+            feedbackRepository.save(Feedback.builder()
+                    .task(task)
+                    .mentee(mentee)
+                    .mentor(mentor)
+                    .subjectId(subject.getId())
+                    .feedbackDate(task.getTaskDate())
+                    .detailContent("피드백" + i)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        FeedbackListResponse response = assertMaxQueries(2,
+                () -> feedbackService.getFeedbacksByMentee(mentee.getId(), null, null));
+
+        //then
+        assertThat(response.getFeedbacks()).hasSize(5);
+        assertThat(response.getFeedbacks().get(0).getSubjectName()).isEqualTo("수학");
+    }
+
+    // 헬퍼 메서드
+    private User createAndSaveUser(String username, String name, UserRole role) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("password")
+                .name(name)
+                .role(role)
+                .build());
+    }
+
+    private Task createAndSaveTask(User mentor, User mentee, Subject subject, LocalDate taskDate) {
+        return taskRepository.save(Task.builder()
+                .mentor(mentor)
+                .mentee(mentee)
+                .subject(subject)
+                .taskDate(taskDate)
+                .taskName("과제")
+                .taskType(TaskType.FIXED)
+                .learningMaterialType(LearningMaterialType.PDF)
+                .isFixed(false)
+                .build());
+    }
+}
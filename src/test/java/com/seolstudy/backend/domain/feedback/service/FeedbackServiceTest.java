@@ -3,14 +3,16 @@ package com.seolstudy.backend.domain.feedback.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 import com.seolstudy.backend.domain.feedback.dto.*;
 import com.seolstudy.backend.domain.feedback.entity.Feedback;
 import com.seolstudy.backend.domain.feedback.repository.FeedbackRepository;
+import com.seolstudy.backend.domain.subject.SubjectCatalog;
 import com.seolstudy.backend.domain.subject.entity.Subject;
-import com.seolstudy.backend.domain.subject.repository.SubjectRepository;
 import com.seolstudy.backend.domain.task.entity.LearningMaterialType;
 import com.seolstudy.backend.domain.task.entity.Task;
 import com.seolstudy.backend.domain.task.entity.TaskType;
@@ -21,6 +23,7 @@ import com.seolstudy.backend.domain.user.repository.UserRepository;
 import com.seolstudy.backend.global.exception.GeneralException;
 import com.seolstudy.backend.global.payload.status.ErrorStatus;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -29,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,7 +48,7 @@ class FeedbackServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private SubjectRepository subjectRepository;
+    private SubjectCatalog subjectCatalog;
 
     @InjectMocks
     private FeedbackService feedbackService;
@@ -74,7 +78,7 @@ class FeedbackServiceTest {
         given(feedbackRepository.existsByTaskId(1L)).willReturn(false);
         given(userRepository.findById(2L)).willReturn(Optional.of(mentee));
         given(userRepository.findById(1L)).willReturn(Optional.of(mentor));
-        given(subjectRepository.findById(1L)).willReturn(Optional.of(subject));
+        given(subjectCatalog.findById(1L)).willReturn(Optional.of(subject));
         given(feedbackRepository.save(any(Feedback.class))).willReturn(feedback);
 
         //when
@@ -149,7 +153,7 @@ class FeedbackServiceTest {
                 LocalDate.now(), "잘 했습니다.");
 
         given(feedbackRepository.findById(1L)).willReturn(Optional.of(feedback));
-        given(subjectRepository.findById(1L)).willReturn(Optional.of(subject));
+        given(subjectCatalog.findById(1L)).willReturn(Optional.of(subject));
 
         //when
         FeedbackResponse response = feedbackService.getFeedback(1L);
@@ -189,16 +193,71 @@ class FeedbackServiceTest {
                 LocalDate.now().minusDays(1), "피드백2");
 
         given(userRepository.findById(2L)).willReturn(Optional.of(mentee));
-        given(feedbackRepository.findByMenteeId(2L)).willReturn(List.of(feedback1, feedback2));
-        given(subjectRepository.findById(1L)).willReturn(Optional.of(subject));
+        given(feedbackRepository.findResponsesByMenteeId(eq(2L), any(Pageable.class))).willReturn(List.of(
+                FeedbackResponse.from(feedback1, task1.getTaskName(), subject.getSubjectName(), subject.getSubjectCode()),
+                FeedbackResponse.from(feedback2, task2.getTaskName(), subject.getSubjectName(), subject.getSubjectCode())));
 
         //when
-        FeedbackListResponse response = feedbackService.getFeedbacksByMentee(2L);
+        FeedbackListResponse response = feedbackService.getFeedbacksByMentee(2L, null, null);
 
         //then
         assertThat(response).isNotNull();
         assertThat(response.getMenteeId()).isEqualTo(2L);
         assertThat(response.getFeedbacks()).hasSize(2);
+        assertThat(response.getHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        // 페이지 파라미터가 없으면 기존처럼 전체 이력을 조회한다
+        verify(feedbackRepository).findResponsesByMenteeId(eq(2L), argThat(Pageable::isUnpaged));
+    }
+
+    @Test
+    @DisplayName("멘티의 피드백 목록 조회 - 다음 페이지 커서 발급 및 이어서 조회")
+    void 멘티의_피드백_목록_조회_다음_페이지() {
+        //given
+        User mentor = createUser(1L, "mentor1", "멘토1", UserRole.MENTOR);
+        User mentee = createUser(2L, "mentee1", "멘티1", UserRole.MENTEE);
+        Subject subject = createSubject(1L, "수학", "MATH");
+        Task task1 = createTask(1L, mentor, mentee, subject, LocalDate.now());
+        Task task2 = createTask(2L, mentor, mentee, subject, LocalDate.now().minusDays(1));
+
+        Feedback feedback1 = createFeedback(1L, task1, mentee, mentor, subject,
+                LocalDate.now(), "피드백1");
+        Feedback feedback2 = createFeedback(2L, task2, mentee, mentor, subject,
+                LocalDate.now().minusDays(1), "피드백2");
+        ReflectionTestUtils.setField(feedback1, "createdAt", LocalDateTime.of(2026, 2, 7, 10, 0));
+        FeedbackResponse first = FeedbackResponse.from(feedback1, "과제", "수학", "MATH");
+        FeedbackResponse second = FeedbackResponse.from(feedback2, "과제", "수학", "MATH");
+
+        given(userRepository.findById(2L)).willReturn(Optional.of(mentee));
+        given(feedbackRepository.findResponsesByMenteeId(eq(2L), any(Pageable.class)))
+                .willReturn(List.of(first, second));
+        given(feedbackRepository.findResponsesByMenteeIdAfter(eq(2L), eq(LocalDate.now()),
+                eq(LocalDateTime.of(2026, 2, 7, 10, 0)), eq(1L), any(Pageable.class)))
+                .willReturn(List.of(second));
+
+        //when
+        FeedbackListResponse firstPage = feedbackService.getFeedbacksByMentee(2L, null, 1);
+        FeedbackListResponse secondPage = feedbackService.getFeedbacksByMentee(2L, firstPage.getNextCursor(), 1);
+
+        //then
+        assertThat(firstPage.getFeedbacks()).extracting("feedbackId").containsExactly(1L);
+        assertThat(firstPage.getHasNext()).isTrue();
+        assertThat(secondPage.getFeedbacks()).extracting("feedbackId").containsExactly(2L);
+        assertThat(secondPage.getHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("멘티의 피드백 목록 조회 실패 - 잘못된 커서")
+    void 멘티의_피드백_목록_조회_실패_잘못된_커서() {
+        //given
+        User mentee = createUser(2L, "mentee1", "멘티1", UserRole.MENTEE);
+        given(userRepository.findById(2L)).willReturn(Optional.of(mentee));
+
+        //when&then
+        assertThatThrownBy(() -> feedbackService.getFeedbacksByMentee(2L, "not-a-cursor", null))
+                .isInstanceOf(GeneralException.class)
+                .extracting("status")
+                .isEqualTo(ErrorStatus.INVALID_FEEDBACK_CURSOR);
     }
 
     @Test
@@ -249,7 +308,7 @@ class FeedbackServiceTest {
                 .build();
 
         given(feedbackRepository.findById(1L)).willReturn(Optional.of(feedback));
-        given(subjectRepository.findById(1L)).willReturn(Optional.of(subject));
+        given(subjectCatalog.findById(1L)).willReturn(Optional.of(subject));
 
         //when
         FeedbackResponse response = feedbackService.updateFeedback(1L, request);
@@ -0,0 +1,173 @@
+package com.seolstudy.backend.domain.mentoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+import com.seolstudy.backend.domain.feedback.controller.FeedbackController;
+import com.seolstudy.backend.domain.feedback.service.FeedbackService;
+import com.seolstudy.backend.domain.mentoring.dto.MentoringLink;
+import com.seolstudy.backend.domain.mentoring.repository.MentoringRepository;
+import com.seolstudy.backend.domain.task.controller.TaskController;
+import com.seolstudy.backend.domain.task.service.TaskService;
+import com.seolstudy.backend.global.security.AuthUser;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * 멘티 데이터 조회 API의 @mentoringAccess 권한 검사 검증
+ * 기존 역할 검사는 그대로 두고, 멘티는 본인 데이터만, 멘토는 담당 멘티 데이터만 조회할 수 있다.
+ */
+@SpringJUnitConfig(MentoringAccessSecurityTest.TestConfig.class)
+class MentoringAccessSecurityTest {
+
+    @Configuration
+    @EnableMethodSecurity
+    static class TestConfig {
+
+        @Bean
+        TaskService taskService() {
+            return mock(TaskService.class);
+        }
+
+        @Bean
+        FeedbackService feedbackService() {
+            return mock(FeedbackService.class);
+        }
+
+        @Bean
+        MentoringRepository mentoringRepository() {
+            return mock(MentoringRepository.class);
+        }
+
+        @Bean
+        MentoringRelationshipIndex mentoringRelationshipIndex(MentoringRepository mentoringRepository) {
+            return new MentoringRelationshipIndex(mentoringRepository, false);
+        }
+
+        @Bean
+        MentoringAccessChecker mentoringAccess(MentoringRelationshipIndex mentoringRelationshipIndex,
+                                               MentoringRepository mentoringRepository) {
+            return new MentoringAccessChecker(mentoringRelationshipIndex, mentoringRepository);
+        }
+
+        @Bean
+        TaskController taskController(TaskService taskService) {
+            return new TaskController(taskService);
+        }
+
+        @Bean
+        FeedbackController feedbackController(FeedbackService feedbackService) {
+            return new FeedbackController(feedbackService);
+        }
+    }
+
+    @Autowired
+    private TaskController taskController;
+
+    @Autowired
+    private FeedbackController feedbackController;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private MentoringRepository mentoringRepository;
+
+    @Autowired
+    private MentoringRelationshipIndex mentoringRelationshipIndex;
+
+    @BeforeEach
+    void setUp() {
+        reset(taskService, feedbackService, mentoringRepository);
+        given(mentoringRepository.findAllActiveLinks()).willReturn(List.of(new MentoringLink(1L, 10L)));
+        mentoringRelationshipIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("멘티는 본인 과제만 조회 가능")
+    void 멘티는_본인_과제만_조회_가능() {
+        //given
+        authenticate(10L, "MENTEE");
+
+        //when&then
+        taskController.getTasks(10L, null);
+        assertThatThrownBy(() -> taskController.getTasks(11L, null))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> taskController.getTasksBySubject(11L, null, "MATH"))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(taskService, never()).getTasks(11L, null);
+    }
+
+    @Test
+    @DisplayName("멘토는 담당 멘티 데이터만 조회 가능")
+    void 멘토는_담당_멘티_데이터만_조회_가능() {
+        //given
+        authenticate(1L, "MENTOR");
+
+        //when&then
+        taskController.getTasks(10L, null);
+        feedbackController.getFeedbacksByMentee(10L, null, null);
+        assertThatThrownBy(() -> taskController.getTasks(11L, null))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> feedbackController.getFeedbacksByMentee(11L, null, null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("기존 역할 검사 유지")
+    void 기존_역할_검사_유지() {
+        //given
+        authenticate(10L, "GUEST");
+
+        //when&then
+        assertThatThrownBy(() -> taskController.getTasks(10L, null))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(mentoringRepository, never()).existsActiveRelationship(any(), any());
+    }
+
+    @Test
+    @DisplayName("인덱스에 아직 없는 담당 관계는 DB 확인 후 허용")
+    void 인덱스에_없는_담당_관계는_DB_확인_후_허용() {
+        //given
+        authenticate(1L, "MENTOR");
+        given(mentoringRepository.existsActiveRelationship(1L, 12L)).willReturn(true);
+
+        //when
+        taskController.getTasks(12L, null);
+
+        //then
+        verify(taskService).getTasks(12L, null);
+        assertThat(mentoringRelationshipIndex.isMentorOf(1L, 12L)).isFalse();
+    }
+
+    private void authenticate(Long userId, String role) {
+        AuthUser authUser = AuthUser.fromClaims(userId, "user" + userId, role);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities()));
+    }
+}
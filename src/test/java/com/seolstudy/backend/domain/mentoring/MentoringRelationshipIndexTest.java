@@ -0,0 +1,131 @@
+package com.seolstudy.backend.domain.mentoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.seolstudy.backend.domain.mentoring.dto.MentoringLink;
+import com.seolstudy.backend.domain.mentoring.event.MentoringChangedEvent;
+import com.seolstudy.backend.domain.mentoring.repository.MentoringRepository;
+import com.seolstudy.backend.global.security.AuthUser;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+@ExtendWith(MockitoExtension.class)
+class MentoringRelationshipIndexTest {
+
+    @Mock
+    private MentoringRepository mentoringRepository;
+
+    private MentoringRelationshipIndex mentoringRelationshipIndex;
+
+    @BeforeEach
+    void setUp() {
+        mentoringRelationshipIndex = new MentoringRelationshipIndex(mentoringRepository, false);
+    }
+
+    @Test
+    @DisplayName("관계 조회 시 DB는 최초 한 번만 조회")
+    void 관계_조회_지연_적재() {
+        //given
+        given(mentoringRepository.findAllActiveLinks()).willReturn(List.of(
+                new MentoringLink(1L, 12L),
+                new MentoringLink(1L, 10L),
+                new MentoringLink(2L, 11L)));
+
+        //when
+        boolean assigned = mentoringRelationshipIndex.isMentorOf(1L, 12L);
+        boolean notAssigned = mentoringRelationshipIndex.isMentorOf(2L, 12L);
+
+        //then
+        assertThat(assigned).isTrue();
+        assertThat(notAssigned).isFalse();
+        assertThat(mentoringRelationshipIndex.isMentorOf(1L, 10L)).isTrue();
+        assertThat(mentoringRelationshipIndex.isMentorOf(99L, 10L)).isFalse();
+        verify(mentoringRepository, times(1)).findAllActiveLinks();
+    }
+
+    @Test
+    @DisplayName("커밋 후 이벤트로 관계 추가/해제를 DB 조회 없이 반영")
+    void 관계_변경_이벤트_반영() {
+        //given
+        given(mentoringRepository.findAllActiveLinks()).willReturn(List.of(new MentoringLink(1L, 10L)));
+        mentoringRelationshipIndex.refresh();
+
+        //when
+        mentoringRelationshipIndex.onMentoringChanged(new MentoringChangedEvent(1L, 11L, true));
+        mentoringRelationshipIndex.onMentoringChanged(new MentoringChangedEvent(1L, 10L, false));
+
+        //then
+        assertThat(mentoringRelationshipIndex.isMentorOf(1L, 11L)).isTrue();
+        assertThat(mentoringRelationshipIndex.isMentorOf(1L, 10L)).isFalse();
+        verify(mentoringRepository, times(1)).findAllActiveLinks();
+    }
+
+    @Test
+    @DisplayName("한 멘티의 여러 멘토 중 하나를 해제해도 나머지 관계 유지")
+    void 여러_멘토_중_하나만_해제() {
+        //given
+        given(mentoringRepository.findAllActiveLinks()).willReturn(List.of(
+                new MentoringLink(1L, 10L),
+                new MentoringLink(2L, 10L)));
+        mentoringRelationshipIndex.refresh();
+
+        //when
+        mentoringRelationshipIndex.onMentoringChanged(new MentoringChangedEvent(1L, 10L, false));
+
+        //then
+        assertThat(mentoringRelationshipIndex.isMentorOf(1L, 10L)).isFalse();
+        assertThat(mentoringRelationshipIndex.isMentorOf(2L, 10L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("멘티는 본인, 멘토는 담당 멘티 데이터만 접근 가능")
+    void 멘티_데이터_접근_권한_검사() {
+        //given
+        given(mentoringRepository.findAllActiveLinks()).willReturn(List.of(new MentoringLink(1L, 10L)));
+        MentoringAccessChecker checker = new MentoringAccessChecker(mentoringRelationshipIndex, mentoringRepository);
+        Authentication mentor = authentication(1L, "MENTOR");
+        Authentication mentee = authentication(10L, "MENTEE");
+
+        //when&then
+        assertThat(checker.canAccessMentee(mentor, 10L)).isTrue();
+        assertThat(checker.canAccessMentee(mentor, 11L)).isFalse();
+        assertThat(checker.canAccessMentee(mentee, 10L)).isTrue();
+        assertThat(checker.canAccessMentee(mentee, 11L)).isFalse();
+        assertThat(checker.canAccessMentee(null, 10L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("인덱스에 없는 관계는 DB에서 다시 확인")
+    void 인덱스에_없는_관계는_DB에서_다시_확인() {
+        //given
+        given(mentoringRepository.findAllActiveLinks()).willReturn(List.of(new MentoringLink(1L, 10L)));
+        given(mentoringRepository.existsActiveRelationship(1L, 11L)).willReturn(true);
+        MentoringAccessChecker checker = new MentoringAccessChecker(mentoringRelationshipIndex, mentoringRepository);
+        Authentication mentor = authentication(1L, "MENTOR");
+
+        //when
+        boolean registeredElsewhere = checker.canAccessMentee(mentor, 11L);
+        boolean cached = checker.canAccessMentee(mentor, 10L);
+
+        //then
+        assertThat(registeredElsewhere).isTrue();
+        assertThat(cached).isTrue();
+        verify(mentoringRepository, never()).existsActiveRelationship(1L, 10L);
+    }
+
+    private Authentication authentication(Long userId, String role) {
+        AuthUser authUser = AuthUser.fromClaims(userId, "user" + userId, role);
+        return new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities());
+    }
+}
@@ -0,0 +1,92 @@
+package com.seolstudy.backend.domain.mentoring.service;
+
+import static com.seolstudy.backend.support.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seolstudy.backend.domain.mentoring.dto.MenteeListResponse;
+import com.seolstudy.backend.domain.mentoring.dto.MentorResponse;
+import com.seolstudy.backend.domain.mentoring.entity.Mentoring;
+import com.seolstudy.backend.domain.mentoring.repository.MentoringRepository;
+import com.seolstudy.backend.domain.user.entity.User;
+import com.seolstudy.backend.domain.user.entity.UserRole;
+import com.seolstudy.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 서비스 호출당 쿼리 수 회귀 테스트
+ */
+@DataJpaTest
+@Import(MentoringService.class)
+public class MentoringServiceQueryCountTest {
+
+    @Autowired
+    private MentoringService mentoringService;
+
+    @Autowired
+    private MentoringRepository mentoringRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("담당 멘티 목록 조회는 멘티 수와 무관하게 쿼리 2회 이내")
+    void 담당_멘티_목록_조회_쿼리_수() {
+        //given
+        User mentor = createAndSaveUser("mentor1", "멘토1", UserRole.MENTOR);
+        for (int i = 0; i < 5; i++) {
+            User mentee = createAndSaveUser("mentee" + i, "멘티" + i, UserRole.MENTEE);
+            mentoringRepository.save(Mentoring.builder()
+                    .mentor(mentor)
+                    .mentee(mentee)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        MenteeListResponse response = assertMaxQueries(2, () -> mentoringService.getMentees("mentor1"));
+
+        //then
+        assertThat(response.getMentees()).hasSize(5);
+        assertThat(response.getMentees().get(0).getUsername()).isEqualTo("mentee0");
+    }
+
+    @Test
+    @DisplayName("담당 멘토 조회는 쿼리 2회 이내")
+    void 담당_멘토_조회_쿼리_수() {
+        //given
+        User mentor = createAndSaveUser("mentor1", "멘토1", UserRole.MENTOR);
+        User mentee = createAndSaveUser("mentee1", "멘티1", UserRole.MENTEE);
+        mentoringRepository.save(Mentoring.builder()
+                .mentor(mentor)
+                .mentee(mentee)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        MentorResponse response = assertMaxQueries(2, () -> mentoringService.getMentor("mentee1"));
+
+        //then
+        assertThat(response.getMentorName()).isEqualTo("멘토1");
+        assertThat(response.getMentorUsername()).isEqualTo("mentor1");
+    }
+
+    // 헬퍼 메서드
+    private User createAndSaveUser(String username, String name, UserRole role) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .password("password")
+                .name(name)
+                .role(role)
+                .build());
+    }
+}
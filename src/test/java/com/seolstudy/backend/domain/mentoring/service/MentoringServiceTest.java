@@ -3,28 +3,38 @@ package com.seolstudy.backend.domain.mentoring.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.seolstudy.backend.domain.mentoring.dto.MenteeListResponse;
+import com.seolstudy.backend.domain.mentoring.dto.MentorDashboardResponse;
 import com.seolstudy.backend.domain.mentoring.dto.MentorResponse;
 import com.seolstudy.backend.domain.mentoring.dto.MentoringCreateRequest;
 import com.seolstudy.backend.domain.mentoring.dto.MentoringResponse;
 import com.seolstudy.backend.domain.mentoring.entity.Mentoring;
+import com.seolstudy.backend.domain.mentoring.event.MentoringChangedEvent;
 import com.seolstudy.backend.domain.mentoring.repository.MentoringRepository;
+import com.seolstudy.backend.domain.task.dto.MenteeTaskSummary;
+import com.seolstudy.backend.domain.task.repository.TaskRepository;
 import com.seolstudy.backend.domain.user.entity.User;
 import com.seolstudy.backend.domain.user.entity.UserRole;
 import com.seolstudy.backend.domain.user.repository.UserRepository;
 import com.seolstudy.backend.global.exception.GeneralException;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +46,12 @@ public class MentoringServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MentoringService mentoringService;
 
@@ -85,6 +101,12 @@ public class MentoringServiceTest {
         assertThat(response.getMentorName()).isEqualTo("정용태");
         assertThat(response.getMenteeName()).isEqualTo("임수미");
         verify(mentoringRepository).save(any(Mentoring.class));
+
+        ArgumentCaptor<MentoringChangedEvent> event = ArgumentCaptor.forClass(MentoringChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getMentorId()).isEqualTo(1L);
+        assertThat(event.getValue().getMenteeId()).isEqualTo(2L);
+        assertThat(event.getValue().isActive()).isTrue();
     }
 
     @Test
@@ -257,6 +279,10 @@ public class MentoringServiceTest {
 
         //then
         assertThat(mentoring.getIsActive()).isFalse();
+
+        ArgumentCaptor<MentoringChangedEvent> event = ArgumentCaptor.forClass(MentoringChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().isActive()).isFalse();
     }
 
     @Test
@@ -477,4 +503,108 @@ public class MentoringServiceTest {
         assertThatThrownBy(() -> mentoringService.getMentor("mentee1"))
                 .isInstanceOf(GeneralException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("멘토 대시보드 조회 성공 (과제 없는 멘티는 0으로 채움)")
+    void 멘토_대시보드_조회_성공() {
+        //given
+        User mentor = User.builder()
+                .username("mentor1")
+                .password("password")
+                .name("정용태")
+                .role(UserRole.MENTOR)
+                .build();
+        ReflectionTestUtils.setField(mentor, "id", 1L);
+
+        User mentee1 = User.builder()
+                .username("mentee1")
+                .password("password")
+                .name("임수미")
+                .role(UserRole.MENTEE)
+                .build();
+        ReflectionTestUtils.setField(mentee1, "id", 2L);
+
+        User mentee2 = User.builder()
+                .username("mentee2")
+                .password("password")
+                .name("김멘티")
+                .role(UserRole.MENTEE)
+                .build();
+        ReflectionTestUtils.setField(mentee2, "id", 3L);
+
+        Mentoring mentoring1 = Mentoring.builder()
+                .mentor(mentor)
+                .mentee(mentee1)
+                .build();
+        Mentoring mentoring2 = Mentoring.builder()
+                .mentor(mentor)
+                .mentee(mentee2)
+                .build();
+
+        LocalDate date = LocalDate.of(2026, 3, 2);
+        given(userRepository.findById(1L)).willReturn(Optional.of(mentor));
+        given(mentoringRepository.findActiveByMentorId(1L))
+                .willReturn(Arrays.asList(mentoring1, mentoring2));
+        given(taskRepository.summarizeByMenteeIds(List.of(2L, 3L), date.minusDays(29), date))
+                .willReturn(List.of(new MenteeTaskSummary(2L, 3L, 2L, 1L)));
+
+        //when
+        MentorDashboardResponse response = mentoringService.getDashboard(1L, "2026-03-02");
+
+        //then
+        assertThat(response.getMentorId()).isEqualTo(1L);
+        assertThat(response.getDate()).isEqualTo(date);
+        assertThat(response.getMentees()).hasSize(2);
+        assertThat(response.getMentees().get(0).getMenteeId()).isEqualTo(2L);
+        assertThat(response.getMentees().get(0).getTodayTaskCount()).isEqualTo(3L);
+        assertThat(response.getMentees().get(0).getTodayCompletedCount()).isEqualTo(2L);
+        assertThat(response.getMentees().get(0).getAwaitingFeedbackCount()).isEqualTo(1L);
+        assertThat(response.getMentees().get(1).getMenteeId()).isEqualTo(3L);
+        assertThat(response.getMentees().get(1).getMenteeName()).isEqualTo("김멘티");
+        assertThat(response.getMentees().get(1).getTodayTaskCount()).isZero();
+        assertThat(response.getMentees().get(1).getAwaitingFeedbackCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("담당 멘티가 없으면 과제 집계 쿼리 없이 빈 대시보드 조회")
+    void 담당_멘티_없음_빈_대시보드_조회() {
+        //given
+        User mentor = User.builder()
+                .username("mentor1")
+                .password("password")
+                .name("정용태")
+                .role(UserRole.MENTOR)
+                .build();
+        ReflectionTestUtils.setField(mentor, "id", 1L);
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(mentor));
+        given(mentoringRepository.findActiveByMentorId(1L)).willReturn(Collections.emptyList());
+
+        //when
+        MentorDashboardResponse response = mentoringService.getDashboard(1L, null);
+
+        //then
+        assertThat(response.getMentees()).isEmpty();
+        verify(taskRepository, never()).summarizeByMenteeIds(anyCollection(), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("잘못된 날짜 형식으로 대시보드 조회 시 실패")
+    void 잘못된_날짜_형식_대시보드_조회_실패() {
+        //given
+        User mentor = User.builder()
+                .username("mentor1")
+                .password("password")
+                .name("정용태")
+                .role(UserRole.MENTOR)
+                .build();
+
+        ReflectionTestUtils.setField(mentor, "id", 1L);
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(mentor));
+
+        //when&then
+        assertThatThrownBy(() -> mentoringService.getDashboard(1L, "2026/03/02"))
+                .isInstanceOf(GeneralException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.seolstudy.backend.domain.subject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.seolstudy.backend.domain.subject.entity.Subject;
+import com.seolstudy.backend.domain.subject.repository.SubjectRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SubjectCatalogTest {
+
+    @Mock
+    private SubjectRepository subjectRepository;
+
+    @InjectMocks
+    private SubjectCatalog subjectCatalog;
+
+    @Test
+    @DisplayName("과목 ID와 코드로 조회 시 DB는 한 번만 조회")
+    void 과목_ID와_코드로_조회() {
+        //given
+        Subject math = createSubject(1L, "수학", "MATH");
+        Subject english = createSubject(2L, "영어", "ENG");
+        given(subjectRepository.findAll()).willReturn(List.of(math, english));
+
+        //when
+        subjectCatalog.refresh();
+
+        //then
+        assertThat(subjectCatalog.findById(1L)).contains(math);
+        assertThat(subjectCatalog.findByCode("ENG")).contains(english);
+        assertThat(subjectCatalog.findByCode("KOR")).isEmpty();
+        assertThat(subjectCatalog.findById(null)).isEmpty();
+        verify(subjectRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("refresh 전 조회 시 지연 적재")
+    void refresh_전_조회_시_지연_적재() {
+        //given
+        Subject math = createSubject(1L, "수학", "MATH");
+        given(subjectRepository.findAll()).willReturn(List.of(math));
+
+        //when
+        boolean found = subjectCatalog.findByCode("MATH").isPresent();
+
+        //then
+        assertThat(found).isTrue();
+        verify(subjectRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("refresh 시 변경된 과목 반영")
+    void refresh_시_변경된_과목_반영() {
+        //given
+        Subject math = createSubject(1L, "수학", "MATH");
+        Subject korean = createSubject(2L, "국어", "KOR");
+        given(subjectRepository.findAll())
+                .willReturn(List.of(math))
+                .willReturn(List.of(math, korean));
+        subjectCatalog.refresh();
+
+        //when
+        subjectCatalog.refresh();
+
+        //then
+        assertThat(subjectCatalog.findByCode("KOR")).contains(korean);
+        assertThat(subjectCatalog.findAll()).hasSize(2);
+    }
+
+    private Subject createSubject(Long id, String name, String code) {
+        Subject subject = Subject.builder()
+                .subjectName(name)
+                .subjectCode(code)
+                .build();
+        ReflectionTestUtils.setField(subject, "id", id);
+        return subject;
+    }
+}
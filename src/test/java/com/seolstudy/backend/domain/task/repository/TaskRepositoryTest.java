@@ -0,0 +1,272 @@
+package com.seolstudy.backend.domain.task.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seolstudy.backend.domain.feedback.entity.Feedback;
+import com.seolstudy.backend.domain.feedback.repository.FeedbackRepository;
+import com.seolstudy.backend.domain.subject.entity.Subject;
+import com.seolstudy.backend.domain.subject.repository.SubjectRepository;
+import com.seolstudy.backend.domain.task.dto.MenteeTaskSummary;
+import com.seolstudy.backend.domain.task.dto.TaskCompletionResponse;
+import com.seolstudy.backend.domain.task.dto.TaskResponse;
+import com.seolstudy.backend.domain.task.entity.LearningMaterialType;
+import com.seolstudy.backend.domain.task.entity.Task;
+import com.seolstudy.backend.domain.task.entity.TaskCompletion;
+import com.seolstudy.backend.domain.task.entity.TaskType;
+import com.seolstudy.backend.domain.user.entity.User;
+import com.seolstudy.backend.domain.user.entity.UserRole;
+import com.seolstudy.backend.domain.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+public class TaskRepositoryTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCompletionRepository taskCompletionRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SubjectRepository subjectRepository;
+
+    @Test
+    @DisplayName("특정 멘티의 특정 날짜 과제 응답 목록 조회")
+    void 특정_멘티의_특정_날짜_과제_응답_목록_조회() {
+        //given
+        User mentor = createAndSaveUser("mentor1", "멘토1", UserRole.MENTOR);
+        User mentee = createAndSaveUser("mentee1", "멘티1", UserRole.MENTEE);
+        Subject subject = createAndSaveSubject("수학", "MATH");
+        LocalDate today = LocalDate.now();
+
+        Task completedTask = createAndSaveTask(mentor, mentee, subject, today);
+        Task pendingTask = createAndSaveTask(mentor, mentee, subject, today);
+        createAndSaveTask(mentor, mentee, subject, today.minusDays(1));
+
+        taskCompletionRepository.save(TaskCompletion.builder()
+                .task(completedTask)
+                .completionPhotoUrl("/uploads/task-completions/photo.jpg")
+                .isCompleted(true)
+                .build());
+        feedbackRepository.save(Feedback.builder()
+                .task(completedTask)
+                .mentee(mentee)
+                .mentor(mentor)
+                .subjectId(subject.getId())
+                .feedbackDate(today)
+                .detailContent("잘 했습니다.")
+                .build());
+
+        //when
+        List<TaskResponse> responses = taskRepository.findResponsesByMenteeIdAndTaskDate(mentee.getId(), today);
+
+        //then
+        assertThat(responses).hasSize(2);
+
+        TaskResponse completed = responses.get(0);
+        assertThat(completed.getTaskId()).isEqualTo(completedTask.getId());
+        assertThat(completed.getSubjectName()).isEqualTo("수학");
+        assertThat(completed.getSubjectCode()).isEqualTo("MATH");
+        assertThat(completed.getIsCompleted()).isTrue();
+        assertThat(completed.getCompletionPhotoUrl()).isEqualTo("/uploads/task-completions/photo.jpg");
+        assertThat(completed.getHasFeedback()).isTrue();
+
+        TaskResponse pending = responses.get(1);
+        assertThat(pending.getTaskId()).isEqualTo(pendingTask.getId());
+        assertThat(pending.getIsCompleted()).isFalse();
+        assertThat(pending.getCompletionPhotoUrl()).isNull();
+        assertThat(pending.getHasFeedback()).isFalse();
+    }
+
+    @Test
+    @DisplayName("특정 과목 과제 응답도 완료 정보를 포함")
+    void 특정_과목_과제_응답_완료_정보_포함() {
+        //given
+        User mentor = createAndSaveUser("mentor1", "멘토1", UserRole.MENTOR);
+        User mentee = createAndSaveUser("mentee1", "멘티1", UserRole.MENTEE);
+        Subject math = createAndSaveSubject("수학", "MATH");
+        Subject english = createAndSaveSubject("영어", "ENG");
+        LocalDate today = LocalDate.now();
+
+        Task mathTask = createAndSaveTask(mentor, mentee, math, today);
+        createAndSaveTask(mentor, mentee, english, today);
+        saveCompletion(mathTask);
+
+        //when
+        List<TaskResponse> responses = taskRepository.findResponsesByMenteeIdAndTaskDateAndSubjectId(
+                mentee.getId(), today, math.getId());
+
+        //then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getTaskId()).isEqualTo(mathTask.getId());
+        assertThat(responses.get(0).getSubjectCode()).isEqualTo("MATH");
+        assertThat(responses.get(0).getIsCompleted()).isTrue();
+        assertThat(responses.get(0).getCompletionPhotoUrl()).isEqualTo("/uploads/task-completions/photo.jpg");
+        assertThat(responses.get(0).getHasFeedback()).isFalse();
+    }
+
+    @Test
+    @DisplayName("파생 이미지 생성이 기록된 과제 완료만 파생 이미지 URL 응답")
+    void 파생_이미지_생성이_기록된_과제_완료만_파생_이미지_URL_응답() {
+        //given
+        User mentor = createAndSaveUser("mentor1", "멘토1", UserRole.MENTOR);
+        User mentee = createAndSaveUser("mentee1", "멘티1", UserRole.MENTEE);
+        Subject math = createAndSaveSubject("수학", "MATH");
+        Task task = createAndSaveTask(mentor, mentee, math, LocalDate.now());
+        saveCompletion(task);
+        TaskCompletionResponse before = TaskCompletionResponse.from(
+                taskCompletionRepository.findByTaskId(task.getId()).orElseThrow());
+
+        //when
+        int updated = taskCompletionRepository.markVariantsReady("/uploads/task-completions/photo.jpg");
+
+        //then
+        TaskCompletionResponse after = TaskCompletionResponse.from(
+                taskCompletionRepository.findByTaskId(task.getId()).orElseThrow());
+        assertThat(updated).isEqualTo(1);
+        assertThat(before.getThumbnailUrl()).isEqualTo("/uploads/task-completions/photo.jpg");
+        assertThat(after.getDisplayPhotoUrl()).isEqualTo("/uploads/task-completions/photo.jpg_w1280.jpg");
+        assertThat(after.getThumbnailUrl()).isEqualTo("/uploads/task-completions/photo.jpg_w320.jpg");
+    }
+
+    @Test
+    @DisplayName("멘티별 과제 집계 조회")
+    void 멘티별_과제_집계_조회() {
+        //given
+        User mentor = createAndSaveUser("mentor1", "멘토1", UserRole.MENTOR);
+        User mentee1 = createAndSaveUser("mentee1", "멘티1", UserRole.MENTEE);
+        User mentee2 = createAndSaveUser("mentee2", "멘티2", UserRole.MENTEE);
+        User mentee3 = createAndSaveUser("mentee3", "멘티3", UserRole.MENTEE);
+        Subject subject = createAndSaveSubject("수학", "MATH");
+        LocalDate today = LocalDate.now();
+
+        Task reviewedTask = createAndSaveTask(mentor, mentee1, subject, today);
+        Task awaitingTask = createAndSaveTask(mentor, mentee1, subject, today);
+        createAndSaveTask(mentor, mentee1, subject, today);
+        Task pastAwaitingTask = createAndSaveTask(mentor, mentee1, subject, today.minusDays(1));
+        Task outOfWindowTask = createAndSaveTask(mentor, mentee1, subject, today.minusDays(30));
+        createAndSaveTask(mentor, mentee2, subject, today.minusDays(1));
+        createAndSaveTask(mentor, mentee3, subject, today.minusDays(30));
+
+        saveCompletion(reviewedTask);
+        saveCompletion(awaitingTask);
+        saveCompletion(pastAwaitingTask);
+        saveCompletion(outOfWindowTask);
+        feedbackRepository.save(Feedback.builder()
+                .task(reviewedTask)
+                .mentee(mentee1)
+                .mentor(mentor)
+                .subjectId(subject.getId())
+                .feedbackDate(today)
+                .detailContent("잘 했습니다.")
+                .build());
+
+        //when
+        List<MenteeTaskSummary> summaries = taskRepository.summarizeByMenteeIds(
+                List.of(mentee1.getId(), mentee2.getId(), mentee3.getId()), today.minusDays(29), today);
+
+        //then
+        assertThat(summaries).hasSize(2);
+
+        MenteeTaskSummary first = findSummary(summaries, mentee1.getId());
+        assertThat(first.getTodayTaskCount()).isEqualTo(3L);
+        assertThat(first.getTodayCompletedCount()).isEqualTo(2L);
+        assertThat(first.getAwaitingFeedbackCount()).isEqualTo(2L);
+
+        MenteeTaskSummary second = findSummary(summaries, mentee2.getId());
+        assertThat(second.getTodayTaskCount()).isZero();
+        assertThat(second.getTodayCompletedCount()).isZero();
+        assertThat(second.getAwaitingFeedbackCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("완료 기록이 중복된 과제도 최신 기록으로 한 번만 조회")
+    void 완료_기록이_중복된_과제도_최신_기록으로_한_번만_조회() {
+        //given
+        User mentor = createAndSaveUser("mentor1", "멘토1", UserRole.MENTOR);
+        User mentee = createAndSaveUser("mentee1", "멘티1", UserRole.MENTEE);
+        Subject subject = createAndSaveSubject("수학", "MATH");
+        LocalDate today = LocalDate.now();
+
+        Task task = createAndSaveTask(mentor, mentee, subject, today);
+        saveCompletion(task);
+        taskCompletionRepository.save(TaskCompletion.builder()
+                .task(task)
+                .completionPhotoUrl("/uploads/task-completions/retry.jpg")
+                .isCompleted(true)
+                .build());
+
+        //when
+        List<TaskResponse> responses = taskRepository.findResponsesByMenteeIdAndTaskDate(mentee.getId(), today);
+        List<MenteeTaskSummary> summaries = taskRepository.summarizeByMenteeIds(
+                List.of(mentee.getId()), today, today);
+
+        //then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getCompletionPhotoUrl()).isEqualTo("/uploads/task-completions/retry.jpg");
+
+        MenteeTaskSummary summary = findSummary(summaries, mentee.getId());
+        assertThat(summary.getTodayTaskCount()).isEqualTo(1L);
+        assertThat(summary.getTodayCompletedCount()).isEqualTo(1L);
+        assertThat(summary.getAwaitingFeedbackCount()).isEqualTo(1L);
+    }
+
+    // 헬퍼 메서드
+    private MenteeTaskSummary findSummary(List<MenteeTaskSummary> summaries, Long menteeId) {
+        return summaries.stream()
+                .filter(summary -> summary.getMenteeId().equals(menteeId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void saveCompletion(Task task) {
+        taskCompletionRepository.save(TaskCompletion.builder()
+                .task(task)
+                .completionPhotoUrl("/uploads/task-completions/photo.jpg")
+                .isCompleted(true)
+                .build());
+    }
+
+    private User createAndSaveUser(String username, String name, UserRole role) {
+        User user = User.builder()
+                .username(username)
+                .password("password")
+                .name(name)
+                .role(role)
+                .build();
+        return userRepository.save(user);
+    }
+
+    private Subject createAndSaveSubject(String name, String code) {
+        Subject subject = Subject.builder()
+                .subjectName(name)
+                .subjectCode(code)
+                .build();
+        return subjectRepository.save(subject);
+    }
+
+    private Task createAndSaveTask(User mentor, User mentee, Subject subject, LocalDate taskDate) {
+        Task task = Task.builder()
+                .mentor(mentor)
+                .mentee(mentee)
+                .subject(subject)
+                .taskDate(taskDate)
+                .taskName("과제")
+                .taskType(TaskType.FIXED)
+                .learningMaterialType(LearningMaterialType.PDF)
+                .isFixed(false)
+                .build();
+        return taskRepository.save(task);
+    }
+}
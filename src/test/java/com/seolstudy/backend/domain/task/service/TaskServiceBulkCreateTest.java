@@ -0,0 +1,143 @@
+package com.seolstudy.backend.domain.task.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.seolstudy.backend.domain.subject.SubjectCatalog;
+import com.seolstudy.backend.domain.subject.entity.Subject;
+import com.seolstudy.backend.domain.task.dto.TaskBulkCreateRequest;
+import com.seolstudy.backend.domain.task.dto.TaskBulkCreateResponse;
+import com.seolstudy.backend.domain.task.dto.TaskCreateRequest;
+import com.seolstudy.backend.domain.task.entity.LearningMaterialType;
+import com.seolstudy.backend.domain.task.entity.Task;
+import com.seolstudy.backend.domain.task.entity.TaskType;
+import com.seolstudy.backend.domain.task.repository.TaskCompletionRepository;
+import com.seolstudy.backend.domain.task.repository.TaskRepository;
+import com.seolstudy.backend.domain.user.entity.User;
+import com.seolstudy.backend.domain.user.entity.UserRole;
+import com.seolstudy.backend.domain.user.repository.UserRepository;
+import com.seolstudy.backend.global.storage.DeferredFileDeleter;
+import com.seolstudy.backend.global.storage.FileUploadService;
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskServiceBulkCreateTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private SubjectCatalog subjectCatalog;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TaskCompletionRepository taskCompletionRepository;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private DeferredFileDeleter deferredFileDeleter;
+
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService(taskRepository, subjectCatalog, userRepository,
+                taskCompletionRepository, fileUploadService, deferredFileDeleter,
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    @DisplayName("과제 일괄 추가 시 유효한 항목만 한 번에 저장하고 실패 항목은 index와 함께 반환")
+    void 과제_일괄_추가_항목별_오류() {
+        //given
+        User mentor = createUser(1L, "mentor1", UserRole.MENTOR);
+        User mentee = createUser(2L, "mentee1", UserRole.MENTEE);
+        Subject math = Subject.builder()
+                .subjectName("수학")
+                .subjectCode("MATH")
+                .build();
+        ReflectionTestUtils.setField(math, "id", 10L);
+
+        TaskBulkCreateRequest request = new TaskBulkCreateRequest(List.of(
+                createItem(2L, "MATH", "2026-03-02", "월요일 과제"),
+                createItem(2L, "KOR", "2026-03-03", "화요일 과제"),
+                createItem(3L, "MATH", "2026-03-04", "수요일 과제"),
+                createItem(2L, "MATH", "2026/03/05", "목요일 과제"),
+                createItem(2L, "MATH", "2026-03-06", " "),
+                createItem(2L, "MATH", "2026-03-07", "토요일 과제")));
+
+        given(userRepository.findAllById(anySet())).willReturn(List.of(mentor, mentee));
+        given(subjectCatalog.findByCode("MATH")).willReturn(Optional.of(math));
+        given(subjectCatalog.findByCode("KOR")).willReturn(Optional.empty());
+        given(taskRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            for (int i = 0; i < tasks.size(); i++) {
+                ReflectionTestUtils.setField(tasks.get(i), "id", 100L + i);
+            }
+            return tasks;
+        });
+
+        //when
+        TaskBulkCreateResponse response = taskService.createTasks(request);
+
+        //then
+        assertThat(response.getRequestedCount()).isEqualTo(6);
+        assertThat(response.getCreatedCount()).isEqualTo(2);
+        assertThat(response.getCreated()).extracting("taskId").containsExactly(100L, 101L);
+        assertThat(response.getCreated()).extracting("taskName").containsExactly("월요일 과제", "토요일 과제");
+        assertThat(response.getCreated().get(0).getSubjectName()).isEqualTo("수학");
+        assertThat(response.getErrors()).extracting("index").containsExactly(1, 2, 3, 4);
+        assertThat(response.getErrors()).extracting("code")
+                .containsExactly("SUBJECT_4001", "MEMBER_4001", "TASK_4002", "COMMON_400");
+        assertThat(response.getErrors().get(3).getMessage()).isEqualTo("과제 이름은 필수입니다.");
+
+        verify(userRepository, times(1)).findAllById(anySet());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Task>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository, times(1)).saveAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(2);
+        assertThat(saved.getValue().get(0).getIsFixed()).isFalse();
+    }
+
+    // 헬퍼 메서드
+    private User createUser(Long id, String username, UserRole role) {
+        User user = User.builder()
+                .username(username)
+                .password("password")
+                .name(username)
+                .role(role)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private TaskCreateRequest createItem(Long menteeId, String subjectCode, String taskDate, String taskName) {
+        return TaskCreateRequest.builder()
+                .menteeId(menteeId)
+                .mentorId(1L)
+                .subjectCode(subjectCode)
+                .taskDate(taskDate)
+                .taskName(taskName)
+                .taskType(TaskType.FIXED)
+                .learningMaterialType(LearningMaterialType.PDF)
+                .build();
+    }
+}
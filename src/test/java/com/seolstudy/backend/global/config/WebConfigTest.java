@@ -0,0 +1,138 @@
+package com.seolstudy.backend.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+/**
+ * /uploads/** 정적 리소스 캐시/조건부 요청/Range 응답 검증
+ */
+@SpringJUnitWebConfig(WebConfigTest.TestConfig.class)
+public class WebConfigTest {
+
+    private static final Path UPLOAD_DIR = createUploadDir();
+    private static final String PDF_CONTENT = "%PDF-1.7 0123456789 task attachment";
+    private static final String DIGEST = "a".repeat(64);
+
+    @Configuration
+    @EnableWebMvc
+    @Import(WebConfig.class)
+    static class TestConfig {
+    }
+
+    @DynamicPropertySource
+    static void uploadDir(DynamicPropertyRegistry registry) {
+        registry.add("file.upload-dir", UPLOAD_DIR::toString);
+    }
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        Path attachmentDir = Files.createDirectories(UPLOAD_DIR.resolve("task-attachments"));
+        Files.writeString(attachmentDir.resolve("material.pdf"), PDF_CONTENT);
+
+        Path blobDir = Files.createDirectories(UPLOAD_DIR.resolve("blobs/aa"));
+        Files.writeString(blobDir.resolve(DIGEST + ".pdf"), PDF_CONTENT);
+    }
+
+    @Test
+    @DisplayName("업로드 파일은 불변 캐시 헤더로 응답")
+    void 업로드_파일은_불변_캐시_헤더로_응답() throws Exception {
+        //when
+        MvcResult result = mockMvc.perform(get("/uploads/task-attachments/material.pdf"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(PDF_CONTENT))
+                .andReturn();
+
+        //then
+        String cacheControl = result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL);
+        assertThat(cacheControl).contains("max-age=31536000", "immutable", "private");
+        assertThat(result.getResponse().getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    @DisplayName("digest 파일명이 아니면 ETag 없이 Last-Modified로 304 응답")
+    void digest_파일명이_아니면_ETag_없이_Last_Modified로_304_응답() throws Exception {
+        //given
+        MvcResult result = mockMvc.perform(get("/uploads/task-attachments/material.pdf")).andReturn();
+        String lastModified = result.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        //when & then
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(lastModified).isNotNull();
+        mockMvc.perform(get("/uploads/task-attachments/material.pdf")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 304 응답")
+    void ETag가_일치하면_304_응답() throws Exception {
+        //given
+        String etag = mockMvc.perform(get("/uploads/blobs/aa/" + DIGEST + ".pdf"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when & then
+        mockMvc.perform(get("/uploads/blobs/aa/" + DIGEST + ".pdf")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Range 요청은 206 부분 응답")
+    void Range_요청은_206_부분_응답() throws Exception {
+        //when & then
+        mockMvc.perform(get("/uploads/task-attachments/material.pdf")
+                        .header(HttpHeaders.RANGE, "bytes=0-7"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-7/" + PDF_CONTENT.length()))
+                .andExpect(content().string("%PDF-1.7"));
+    }
+
+    @Test
+    @DisplayName("blob 파일은 digest를 ETag로 사용")
+    void blob_파일은_digest를_ETag로_사용() throws Exception {
+        //when & then
+        mockMvc.perform(get("/uploads/blobs/aa/" + DIGEST + ".pdf"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + DIGEST + ".pdf\""));
+    }
+
+    private static Path createUploadDir() {
+        try {
+            Path dir = Files.createTempDirectory("uploads");
+            dir.toFile().deleteOnExit();
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.seolstudy.backend.global.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AccessLogRingBufferTest {
+
+    @Test
+    @DisplayName("추가한 순서대로 레코드 소비")
+    void 추가한_순서대로_레코드_소비() {
+        //given
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(8);
+        buffer.offer(createRecord(200));
+        buffer.offer(createRecord(201));
+        buffer.offer(createRecord(404));
+
+        //when
+        List<AccessLogRecord> drained = new ArrayList<>();
+        int count = buffer.drain(drained::add, 10);
+
+        //then
+        assertThat(count).isEqualTo(3);
+        assertThat(drained).extracting(AccessLogRecord::getStatus).containsExactly(200, 201, 404);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 버리고 건수 집계")
+    void 버퍼가_가득_차면_버리고_건수_집계() {
+        //given
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            buffer.offer(createRecord(200));
+        }
+
+        //when
+        boolean accepted = buffer.offer(createRecord(500));
+
+        //then
+        assertThat(accepted).isFalse();
+        assertThat(buffer.droppedCount()).isEqualTo(1L);
+        assertThat(buffer.size()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올림")
+    void 용량은_2의_거듭제곱으로_올림() {
+        //when
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(1000);
+
+        //then
+        assertThat(buffer.capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 추가해도 유실 없이 소비")
+    void 여러_스레드에서_동시에_추가해도_유실_없이_소비() throws Exception {
+        //given
+        int producers = 4;
+        int perProducer = 2_000;
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        //when
+        for (int p = 0; p < producers; p++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(createRecord(200))) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        long consumed = 0;
+        while (consumed < (long) producers * perProducer) {
+            consumed += buffer.drain(record -> { }, 256);
+            Thread.yield();
+        }
+        boolean finished = done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        assertThat(finished).isTrue();
+        assertThat(consumed).isEqualTo((long) producers * perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+
+    private AccessLogRecord createRecord(int status) {
+        return new AccessLogRecord(System.currentTimeMillis(), "GET", "/api/tasks", status, 1_000L, 1L, 1, 500L);
+    }
+}
@@ -0,0 +1,57 @@
+package com.seolstudy.backend.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class EndpointMetricsRegistryTest {
+
+    @Test
+    @DisplayName("라우트 템플릿, 상태 계열, 역할별로 집계")
+    void 라우트_템플릿_상태_계열_역할별로_집계() {
+        //given
+        EndpointMetricsRegistry registry = new EndpointMetricsRegistry();
+
+        //when
+        registry.record("GET", "/api/tasks/{taskId}", 200, "MENTEE", 2_000_000L, 1, 100_000L);
+        registry.record("GET", "/api/tasks/{taskId}", 204, "MENTEE", 4_000_000L, 1, 100_000L);
+        registry.record("GET", "/api/tasks/{taskId}", 404, "MENTEE", 1_000_000L, 1, 100_000L);
+        registry.record("GET", "/api/tasks/{taskId}", 200, "MENTOR", 3_000_000L, 1, 100_000L);
+        registry.record("GET", null, 404, null, 500_000L, 1, 100_000L);
+
+        //then
+        List<EndpointLatencyResponse> snapshot = registry.snapshot();
+        assertThat(snapshot).hasSize(4);
+
+        EndpointLatencyResponse menteeSuccess = snapshot.stream()
+                .filter(response -> response.getRole().equals("MENTEE") && response.getStatusClass().equals("2xx"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(menteeSuccess.getCount()).isEqualTo(2L);
+        assertThat(menteeSuccess.getMaxMs()).isEqualTo(4.0);
+        assertThat(menteeSuccess.getMeanStatements()).isEqualTo(1.0);
+        assertThat(menteeSuccess.getMeanDbMs()).isEqualTo(0.1);
+
+        assertThat(snapshot).anyMatch(response ->
+                response.getRoute().equals(EndpointMetricsRegistry.UNMATCHED_ROUTE)
+                        && response.getRole().equals(EndpointMetricsRegistry.ANONYMOUS_ROLE));
+    }
+
+    @Test
+    @DisplayName("p99 내림차순 정렬")
+    void p99_내림차순_정렬() {
+        //given
+        EndpointMetricsRegistry registry = new EndpointMetricsRegistry();
+        registry.record("GET", "/api/fast", 200, "MENTEE", 1_000_000L, 1, 100_000L);
+        registry.record("GET", "/api/slow", 200, "MENTEE", 50_000_000L, 1, 100_000L);
+
+        //when
+        List<EndpointLatencyResponse> snapshot = registry.snapshot();
+
+        //then
+        assertThat(snapshot).extracting(EndpointLatencyResponse::getRoute)
+                .containsExactly("/api/slow", "/api/fast");
+    }
+}
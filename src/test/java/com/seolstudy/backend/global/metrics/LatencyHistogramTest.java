@@ -0,0 +1,70 @@
+package com.seolstudy.backend.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("작은 값은 정확한 버킷에 기록")
+    void 작은_값은_정확한_버킷에_기록() {
+        //given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        //when
+        for (long micros = 1; micros <= 10; micros++) {
+            histogram.recordMicros(micros);
+        }
+
+        //then
+        assertThat(histogram.getCount()).isEqualTo(10L);
+        assertThat(histogram.percentileMicros(50)).isEqualTo(5L);
+        assertThat(histogram.percentileMicros(100)).isEqualTo(10L);
+        assertThat(histogram.getMaxMicros()).isEqualTo(10L);
+        assertThat(histogram.getMeanMicros()).isEqualTo(5.5);
+    }
+
+    @Test
+    @DisplayName("백분위 상대 오차 범위 이내")
+    void 백분위_상대_오차_범위_이내() {
+        //given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        //when
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.recordMicros(micros);
+        }
+
+        //then
+        assertThat((double) histogram.percentileMicros(50)).isCloseTo(50_000.0, within(50_000.0 * 0.07));
+        assertThat((double) histogram.percentileMicros(95)).isCloseTo(95_000.0, within(95_000.0 * 0.07));
+        assertThat((double) histogram.percentileMicros(99)).isCloseTo(99_000.0, within(99_000.0 * 0.07));
+        assertThat(histogram.percentileMicros(100)).isEqualTo(100_000L);
+    }
+
+    @Test
+    @DisplayName("버킷 경계 계산")
+    void 버킷_경계_계산() {
+        //then
+        assertThat(LatencyHistogram.bucketIndex(15)).isEqualTo(15);
+        assertThat(LatencyHistogram.bucketIndex(16)).isEqualTo(16);
+        assertThat(LatencyHistogram.bucketIndex(32)).isEqualTo(32);
+        assertThat(LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(33))).isEqualTo(33L);
+        assertThat(LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(1_000))).isGreaterThanOrEqualTo(1_000L);
+        assertThat(LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 0 반환")
+    void 기록이_없으면_0_반환() {
+        //given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        //then
+        assertThat(histogram.percentileMicros(99)).isZero();
+        assertThat(histogram.getMeanMicros()).isZero();
+    }
+}
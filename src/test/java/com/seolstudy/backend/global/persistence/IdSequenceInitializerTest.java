@@ -0,0 +1,74 @@
+package com.seolstudy.backend.global.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seolstudy.backend.domain.user.entity.User;
+import com.seolstudy.backend.domain.user.entity.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import(IdSequenceInitializer.class)
+public class IdSequenceInitializerTest {
+
+    @Autowired
+    private IdSequenceInitializer idSequenceInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("기존 최대 ID 이후 구간부터 발급하도록 ID 발급 테이블 보정")
+    void 기존_최대_ID_이후_구간부터_발급() {
+        //given
+        jdbcTemplate.update("INSERT INTO \"user\" (user_id, username, password, name, role) VALUES (?, ?, ?, ?, ?)",
+                1000L, "legacy", "password", "기존 사용자", UserRole.MENTEE.name());
+
+        //when
+        idSequenceInitializer.initialize();
+
+        //then
+        // pooled는 읽은 값을 구간 상한으로 쓰므로 다음 구간은 1002 ~ 1051
+        Long nextValue = jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_sequence WHERE sequence_name = ?", Long.class, "user");
+        assertThat(nextValue).isEqualTo(1000L + IdSequence.ALLOCATION_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("저장 시 INSERT 없이 ID가 먼저 할당됨")
+    void 저장_시_ID_선할당() {
+        //given
+        User first = User.builder()
+                .username("mentee1")
+                .password("password")
+                .name("멘티1")
+                .role(UserRole.MENTEE)
+                .build();
+        User second = User.builder()
+                .username("mentee2")
+                .password("password")
+                .name("멘티2")
+                .role(UserRole.MENTEE)
+                .build();
+
+        //when
+        entityManager.persist(first);
+        entityManager.persist(second);
+        Long countBeforeFlush = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"user\"", Long.class);
+        entityManager.flush();
+
+        //then
+        assertThat(first.getId()).isNotNull();
+        assertThat(second.getId()).isGreaterThan(first.getId());
+        assertThat(countBeforeFlush).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"user\"", Long.class)).isEqualTo(2L);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -116,4 +117,64 @@ public class JwtTokenProviderTest {
         //then
         assertThat(isValid).isFalse();
     }
+
+    @Test
+    @DisplayName("클레임 기반 인증 정보 생성")
+    void 클레임_기반_인증_정보_생성() {
+        //given
+        ReflectionTestUtils.setField(jwtTokenProvider, "statelessAuthentication", true);
+        String token = jwtTokenProvider.createAccessToken(1L, "testuser", "MENTEE");
+
+        //when
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+        //then
+        assertThat(authentication.getPrincipal()).isInstanceOf(AuthUser.class);
+        AuthUser authUser = (AuthUser) authentication.getPrincipal();
+        assertThat(authUser.getUserId()).isEqualTo(1L);
+        assertThat(authUser.getUsername()).isEqualTo("testuser");
+        assertThat(authUser.getRole()).isEqualTo("MENTEE");
+        assertThat(authentication.getAuthorities().iterator().next().getAuthority()).isEqualTo("ROLE_MENTEE");
+    }
+
+    @Test
+    @DisplayName("사용자 조회 기반 인증 정보 생성")
+    void 사용자_조회_기반_인증_정보_생성() {
+        //given
+        ReflectionTestUtils.setField(jwtTokenProvider, "statelessAuthentication", false);
+        String token = jwtTokenProvider.createAccessToken(1L, "testuser", "MENTEE");
+
+        //when
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+        //then
+        assertThat(authentication.getPrincipal()).isNotInstanceOf(AuthUser.class);
+        assertThat(authentication.getName()).isEqualTo("testuser");
+    }
+
+    @Test
+    @DisplayName("토큰 한 번 파싱으로 클레임 추출")
+    void 토큰_한_번_파싱으로_클레임_추출() {
+        //given
+        String token = jwtTokenProvider.createAccessToken(1L, "testuser", "MENTEE");
+
+        //when
+        TokenClaims tokenClaims = jwtTokenProvider.resolveClaims(token).orElseThrow();
+
+        //then
+        assertThat(tokenClaims.getUserId()).isEqualTo(1L);
+        assertThat(tokenClaims.getUsername()).isEqualTo("testuser");
+        assertThat(tokenClaims.getRole()).isEqualTo("MENTEE");
+        assertThat(tokenClaims.getExpiresAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰 클레임 추출")
+    void 유효하지_않은_토큰_클레임_추출() {
+        //when
+        boolean present = jwtTokenProvider.resolveClaims("invalid.token.here").isPresent();
+
+        //then
+        assertThat(present).isFalse();
+    }
 }
@@ -0,0 +1,117 @@
+package com.seolstudy.backend.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.seolstudy.backend.domain.user.entity.User;
+import com.seolstudy.backend.domain.user.entity.UserRole;
+import com.seolstudy.backend.domain.user.repository.UserRepository;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TokenRevocationCheckerTest {
+
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+    }
+
+    @Test
+    @DisplayName("TTL이 0이면 폐기 확인 생략")
+    void TTL이_0이면_폐기_확인_생략() {
+        //given
+        TokenRevocationChecker checker = new TokenRevocationChecker(userRepository, Duration.ZERO, 10);
+
+        //when
+        boolean revoked = checker.isRevoked(AuthUser.fromClaims(1L, "mentee1", "MENTEE"));
+
+        //then
+        assertThat(revoked).isFalse();
+        verify(userRepository, never()).findById(1L);
+    }
+
+    @Test
+    @DisplayName("TTL 동안 사용자 조회 결과 재사용")
+    void TTL_동안_사용자_조회_결과_재사용() {
+        //given
+        TokenRevocationChecker checker = new TokenRevocationChecker(userRepository, Duration.ofMinutes(1), 10);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(createUser(UserRole.MENTEE)));
+        AuthUser authUser = AuthUser.fromClaims(1L, "mentee1", "MENTEE");
+
+        //when
+        boolean first = checker.isRevoked(authUser);
+        boolean second = checker.isRevoked(authUser);
+
+        //then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 사용자 토큰 폐기")
+    void 삭제된_사용자_토큰_폐기() {
+        //given
+        TokenRevocationChecker checker = new TokenRevocationChecker(userRepository, Duration.ofMinutes(1), 10);
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        //when
+        boolean revoked = checker.isRevoked(AuthUser.fromClaims(1L, "mentee1", "MENTEE"));
+
+        //then
+        assertThat(revoked).isTrue();
+    }
+
+    @Test
+    @DisplayName("역할이 변경된 사용자 토큰 폐기")
+    void 역할이_변경된_사용자_토큰_폐기() {
+        //given
+        TokenRevocationChecker checker = new TokenRevocationChecker(userRepository, Duration.ofMinutes(1), 10);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(createUser(UserRole.MENTOR)));
+
+        //when
+        boolean revoked = checker.isRevoked(AuthUser.fromClaims(1L, "mentee1", "MENTEE"));
+
+        //then
+        assertThat(revoked).isTrue();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않도록 사용자 제거")
+    void 최대_크기를_넘지_않도록_사용자_제거() {
+        //given
+        TokenRevocationChecker checker = new TokenRevocationChecker(userRepository, Duration.ofMinutes(1), 2);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(createUser(UserRole.MENTEE)));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(createUser(UserRole.MENTEE)));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(createUser(UserRole.MENTEE)));
+
+        //when
+        checker.isRevoked(AuthUser.fromClaims(1L, "mentee1", "MENTEE"));
+        checker.isRevoked(AuthUser.fromClaims(2L, "mentee2", "MENTEE"));
+        checker.isRevoked(AuthUser.fromClaims(3L, "mentee3", "MENTEE"));
+        checker.isRevoked(AuthUser.fromClaims(3L, "mentee3", "MENTEE"));
+
+        //then
+        assertThat(checker.size()).isLessThanOrEqualTo(2);
+        verify(userRepository, times(1)).findById(3L);
+    }
+
+    private User createUser(UserRole role) {
+        return User.builder()
+                .id(1L)
+                .username("mentee1")
+                .password("password")
+                .name("멘티1")
+                .role(role)
+                .build();
+    }
+}
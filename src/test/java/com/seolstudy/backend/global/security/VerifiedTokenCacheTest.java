@@ -0,0 +1,120 @@
+package com.seolstudy.backend.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class VerifiedTokenCacheTest {
+
+    @Test
+    @DisplayName("캐시된 토큰 클레임 재사용")
+    void 캐시된_토큰_클레임_재사용() {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("token-1", createTokenClaims(60_000L));
+
+        //when
+        TokenClaims cached = cache.get("token-1").orElseThrow();
+
+        //then
+        assertThat(cached.getUserId()).isEqualTo(1L);
+        assertThat(cache.getStats().getHits()).isEqualTo(1L);
+        assertThat(cache.getStats().getMisses()).isZero();
+        assertThat(cache.getStats().getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시에서 제거")
+    void 만료된_토큰은_캐시에서_제거() {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("token-1", createTokenClaims(-1_000L));
+
+        //when
+        boolean present = cache.get("token-1").isPresent();
+
+        //then
+        assertThat(present).isFalse();
+        assertThat(cache.getStats().getMisses()).isEqualTo(1L);
+        assertThat(cache.getStats().getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않도록 항목 제거")
+    void 최대_크기를_넘지_않도록_항목_제거() {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+
+        //when
+        cache.put("token-1", createTokenClaims(60_000L));
+        cache.put("token-2", createTokenClaims(60_000L));
+        cache.put("token-3", createTokenClaims(60_000L));
+
+        //then
+        assertThat(cache.getStats().getSize()).isEqualTo(2);
+        assertThat(cache.get("token-3")).isPresent();
+    }
+
+    @Test
+    @DisplayName("가득 차면 만료된 항목부터 제거")
+    void 가득_차면_만료된_항목부터_제거() {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("token-1", createTokenClaims(-1_000L));
+        cache.put("token-2", createTokenClaims(60_000L));
+
+        //when
+        cache.put("token-3", createTokenClaims(60_000L));
+
+        //then
+        assertThat(cache.getStats().getSize()).isEqualTo(2);
+        assertThat(cache.get("token-2")).isPresent();
+        assertThat(cache.get("token-3")).isPresent();
+    }
+
+    @Test
+    @DisplayName("최대 크기가 0이면 캐시하지 않음")
+    void 최대_크기가_0이면_캐시하지_않음() {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+        cache.put("token-1", createTokenClaims(60_000L));
+
+        //when
+        boolean present = cache.get("token-1").isPresent();
+
+        //then
+        assertThat(present).isFalse();
+        assertThat(cache.getStats().getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시 적중률 계산")
+    void 캐시_적중률_계산() {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("token-1", createTokenClaims(60_000L));
+
+        //when
+        cache.get("token-1");
+        cache.get("token-1");
+        cache.get("token-1");
+        cache.get("unknown");
+
+        //then
+        assertThat(cache.getStats().getHitRate()).isEqualTo(0.75);
+    }
+
+    private TokenClaims createTokenClaims(long expiresInMillis) {
+        Claims claims = Jwts.claims()
+                .add("userId", 1L)
+                .add("username", "mentee1")
+                .add("role", "MENTEE")
+                .expiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .build();
+        return TokenClaims.of(claims);
+    }
+}
@@ -0,0 +1,78 @@
+package com.seolstudy.backend.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class DeferredFileDeleterTest {
+
+    private final List<String> deletedUrls = new ArrayList<>();
+    private DeferredFileDeleter deferredFileDeleter;
+
+    @BeforeEach
+    void setUp() {
+        deferredFileDeleter = new DeferredFileDeleter(Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("커밋 후 삭제는 커밋된 경우에만 실행")
+    void 커밋_후_삭제는_커밋된_경우에만_실행() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+        deferredFileDeleter.deleteAfterCommit("/uploads/task-attachments/old.pdf", deletedUrls::add);
+        deferredFileDeleter.deleteOnRollback("/uploads/task-attachments/new.pdf", deletedUrls::add);
+        assertThat(deletedUrls).isEmpty();
+
+        //when
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        //then
+        assertThat(deletedUrls).containsExactly("/uploads/task-attachments/old.pdf");
+    }
+
+    @Test
+    @DisplayName("롤백되면 새로 저장한 파일만 삭제")
+    void 롤백되면_새로_저장한_파일만_삭제() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+        deferredFileDeleter.deleteAfterCommit("/uploads/task-attachments/old.pdf", deletedUrls::add);
+        deferredFileDeleter.deleteOnRollback("/uploads/task-attachments/new.pdf", deletedUrls::add);
+
+        //when
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        //then
+        assertThat(deletedUrls).containsExactly("/uploads/task-attachments/new.pdf");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 커밋 후 삭제를 바로 실행")
+    void 트랜잭션_밖에서는_바로_삭제() {
+        //when
+        deferredFileDeleter.deleteAfterCommit("/uploads/planners/a.png", deletedUrls::add);
+        deferredFileDeleter.deleteOnRollback("/uploads/planners/b.png", deletedUrls::add);
+
+        //then
+        assertThat(deletedUrls).containsExactly("/uploads/planners/a.png");
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
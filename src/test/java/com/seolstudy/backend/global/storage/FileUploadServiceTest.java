@@ -0,0 +1,205 @@
+package com.seolstudy.backend.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.seolstudy.backend.global.exception.GeneralException;
+import com.seolstudy.backend.global.payload.status.ErrorStatus;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+public class FileUploadServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private FileUploadService fileUploadService;
+    private LocalFileStorage localFileStorage;
+    private UploadBlobRegistry uploadBlobRegistry;
+    private ImageVariantGenerator imageVariantGenerator;
+
+    @BeforeEach
+    void setUp() {
+        uploadBlobRegistry = mock(UploadBlobRegistry.class);
+        imageVariantGenerator = mock(ImageVariantGenerator.class);
+        localFileStorage = new LocalFileStorage(uploadDir.toString());
+        fileUploadService = new FileUploadService(localFileStorage, uploadBlobRegistry, imageVariantGenerator,
+                new UploadUrlSigner("test-secret"));
+    }
+
+    @Test
+    @DisplayName("과제 첨부파일 저장")
+    void 과제_첨부파일_저장() throws IOException {
+        //given
+        byte[] content = "%PDF-1.7 test".getBytes(StandardCharsets.UTF_8);
+        MockMultipartFile file = new MockMultipartFile("file", "material.pdf", "application/pdf", content);
+
+        //when
+        String url = fileUploadService.storeTaskAttachment(file);
+
+        //then
+        assertThat(url).startsWith("/uploads/task-attachments/").endsWith(".pdf");
+        Path stored = uploadDir.resolve("task-attachments").resolve(Path.of(url).getFileName());
+        assertThat(Files.readAllBytes(stored)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("파일 이동이 불가능하면 채널 복사로 저장")
+    void 파일_이동이_불가능하면_채널_복사로_저장() throws IOException {
+        //given
+        byte[] content = "image-bytes".getBytes(StandardCharsets.UTF_8);
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getContentType()).thenReturn("image/png");
+        when(file.getOriginalFilename()).thenReturn("photo.png");
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(content));
+        doThrow(new IOException("cross-device link")).when(file).transferTo(any(File.class));
+
+        //when
+        String url = fileUploadService.storeTaskCompletionImage(file);
+
+        //then
+        Path stored = uploadDir.resolve("task-completions").resolve(Path.of(url).getFileName());
+        assertThat(Files.readAllBytes(stored)).isEqualTo(content);
+        verify(imageVariantGenerator).generateAsync(url);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 업로드는 하나의 blob으로 저장")
+    void 같은_내용의_업로드는_하나의_blob으로_저장() throws IOException {
+        //given
+        ReflectionTestUtils.setField(fileUploadService, "contentAddressed", true);
+        byte[] content = "%PDF-1.7 shared".getBytes(StandardCharsets.UTF_8);
+
+        //when
+        String first = fileUploadService.storeTaskAttachment(
+                new MockMultipartFile("file", "week1.pdf", "application/pdf", content));
+        String second = fileUploadService.storeTaskAttachment(
+                new MockMultipartFile("file", "week1-copy.PDF", "application/pdf", content));
+
+        //then
+        assertThat(first).isEqualTo(second);
+        assertThat(first).matches("/uploads/blobs/[0-9a-f]{2}/[0-9a-f]{64}\\.pdf");
+        Path stored = uploadDir.resolve(first.substring("/uploads/".length()));
+        assertThat(Files.readAllBytes(stored)).isEqualTo(content);
+        try (Stream<Path> files = Files.list(stored.getParent())) {
+            assertThat(files.count()).isEqualTo(1L);
+        }
+        // 내용을 한 번만 읽어 쓴 임시 파일은 blob으로 옮겨지거나 삭제된다
+        try (Stream<Path> files = Files.list(uploadDir.resolve("blobs"))) {
+            assertThat(files).containsExactly(stored.getParent());
+        }
+        verify(uploadBlobRegistry, times(2)).markUsed(first.substring("/uploads/".length()));
+    }
+
+    @Test
+    @DisplayName("blob 삭제는 유예 기간 기준 시각과 함께 잠금 확인에 위임")
+    void blob_삭제는_잠금_확인에_위임() throws IOException {
+        //given
+        ReflectionTestUtils.setField(fileUploadService, "contentAddressed", true);
+        String url = fileUploadService.storeTaskCompletionImage(
+                new MockMultipartFile("photo", "photo.png", "image/png", "orphan".getBytes(StandardCharsets.UTF_8)));
+        String key = url.substring("/uploads/".length());
+        when(uploadBlobRegistry.deleteIfUnreferenced(eq(key), any(Instant.class))).thenReturn(true);
+
+        //when
+        fileUploadService.deleteTaskCompletionImage(url);
+
+        //then
+        verify(uploadBlobRegistry).deleteIfUnreferenced(eq(key),
+                argThat(usedBefore -> usedBefore.isBefore(Instant.now().minus(Duration.ofMinutes(59)))));
+        verify(imageVariantGenerator).deleteVariants(url);
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 blob의 파생 이미지는 유지")
+    void 삭제되지_않은_blob의_파생_이미지는_유지() throws IOException {
+        //given
+        ReflectionTestUtils.setField(fileUploadService, "contentAddressed", true);
+        String url = fileUploadService.storeTaskCompletionImage(
+                new MockMultipartFile("photo", "photo.png", "image/png", "same".getBytes(StandardCharsets.UTF_8)));
+        when(uploadBlobRegistry.deleteIfUnreferenced(any(), any(Instant.class))).thenReturn(false);
+
+        //when
+        fileUploadService.deleteTaskCompletionImage(url);
+
+        //then
+        assertThat(uploadDir.resolve(url.substring("/uploads/".length()))).exists();
+        verify(imageVariantGenerator, never()).deleteVariants(url);
+    }
+
+    @Test
+    @DisplayName("UUID 파일 삭제 시 참조 수를 조회하지 않음")
+    void UUID_파일_삭제_시_참조_수를_조회하지_않음() throws IOException {
+        //given
+        String url = fileUploadService.storeTaskAttachment(
+                new MockMultipartFile("file", "material.pdf", "application/pdf", new byte[]{1, 2, 3}));
+
+        //when
+        fileUploadService.deleteTaskAttachment(url);
+
+        //then
+        assertThat(uploadDir.resolve(url.substring("/uploads/".length()))).doesNotExist();
+        verify(uploadBlobRegistry, never()).deleteIfUnreferenced(any(), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("직접 업로드 후 확인하면 첨부파일 URL 반환")
+    void 직접_업로드_후_확인하면_첨부파일_URL_반환() throws IOException {
+        //given
+        byte[] content = "%PDF-1.7 direct".getBytes(StandardCharsets.UTF_8);
+        DirectUploadSlot slot = fileUploadService.prepareTaskAttachmentUpload(
+                "task:1", "week1.PDF", "application/pdf", content.length);
+        localFileStorage.store(slot.getKey(), new ByteArrayInputStream(content), content.length, "application/pdf");
+
+        //when
+        String url = fileUploadService.confirmTaskAttachmentUpload("task:1", slot.getUploadToken());
+
+        //then
+        assertThat(slot.getKey()).startsWith("task-attachments/").endsWith(".pdf");
+        assertThat(slot.getUpload().getMethod()).isEqualTo("PUT");
+        assertThat(url).isEqualTo("/uploads/" + slot.getKey());
+    }
+
+    @Test
+    @DisplayName("업로드 전이거나 다른 대상의 토큰이면 확인 실패")
+    void 업로드_전이거나_다른_대상의_토큰이면_확인_실패() {
+        //given
+        DirectUploadSlot slot = fileUploadService.prepareTaskAttachmentUpload(
+                "task:1", "week1.pdf", "application/pdf", 10);
+
+        //when&then
+        assertThatThrownBy(() -> fileUploadService.confirmTaskAttachmentUpload("task:1", slot.getUploadToken()))
+                .isInstanceOf(GeneralException.class)
+                .extracting("status").isEqualTo(ErrorStatus.TASK_ATTACHMENT_NOT_UPLOADED);
+        assertThatThrownBy(() -> fileUploadService.confirmTaskAttachmentUpload("task:2", slot.getUploadToken()))
+                .isInstanceOf(GeneralException.class)
+                .extracting("status").isEqualTo(ErrorStatus.INVALID_TASK_ATTACHMENT_UPLOAD_TOKEN);
+        assertThatThrownBy(() -> fileUploadService.confirmTaskAttachmentUpload("task:1", slot.getUploadToken() + "x"))
+                .isInstanceOf(GeneralException.class)
+                .extracting("status").isEqualTo(ErrorStatus.INVALID_TASK_ATTACHMENT_UPLOAD_TOKEN);
+    }
+}
@@ -0,0 +1,132 @@
+package com.seolstudy.backend.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+public class ImageVariantGeneratorTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private ImageVariantGenerator imageVariantGenerator;
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        imageVariantGenerator = new ImageVariantGenerator(
+                new LocalFileStorage(uploadDir.toString()), Runnable::run, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("큰 이미지는 표시용 이미지와 썸네일로 축소")
+    void 큰_이미지는_표시용_이미지와_썸네일로_축소() throws IOException {
+        //given
+        String originalUrl = storeImage("photo.png", 4000, 3000);
+
+        //when
+        imageVariantGenerator.generateAsync(originalUrl);
+
+        //then
+        BufferedImage display = readVariant(ImageVariant.DISPLAY.urlOf(originalUrl));
+        assertThat(display.getWidth()).isEqualTo(1280);
+        assertThat(display.getHeight()).isEqualTo(960);
+
+        BufferedImage thumbnail = readVariant(ImageVariant.THUMBNAIL.urlOf(originalUrl));
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(240);
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue()).isInstanceOf(ImageVariantsGeneratedEvent.class)
+                .extracting("originalUrl").isEqualTo(originalUrl);
+    }
+
+    @Test
+    @DisplayName("작은 이미지는 확대하지 않음")
+    void 작은_이미지는_확대하지_않음() throws IOException {
+        //given
+        String originalUrl = storeImage("small.png", 200, 100);
+
+        //when
+        imageVariantGenerator.generateAsync(originalUrl);
+
+        //then
+        BufferedImage display = readVariant(ImageVariant.DISPLAY.urlOf(originalUrl));
+        assertThat(display.getWidth()).isEqualTo(200);
+        assertThat(display.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 건너뜀")
+    void 이미지가_아닌_파일은_건너뜀() throws IOException {
+        //given
+        Path dir = Files.createDirectories(uploadDir.resolve("task-completions"));
+        Files.write(dir.resolve("broken.png"), new byte[]{1, 2, 3});
+        String originalUrl = "/uploads/task-completions/broken.png";
+
+        //when
+        imageVariantGenerator.generateAsync(originalUrl);
+
+        //then
+        assertThat(uploadDir.resolve("task-completions/broken.png_w320.jpg")).doesNotExist();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("파생 이미지 삭제")
+    void 파생_이미지_삭제() throws IOException {
+        //given
+        String originalUrl = storeImage("photo.png", 800, 600);
+        imageVariantGenerator.generateAsync(originalUrl);
+
+        //when
+        imageVariantGenerator.deleteVariants(originalUrl);
+
+        //then
+        assertThat(uploadDir.resolve("task-completions/photo.png_w1280.jpg")).doesNotExist();
+        assertThat(uploadDir.resolve("task-completions/photo.png_w320.jpg")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("확장자만 다른 원본은 파생 이미지를 공유하지 않음")
+    void 확장자만_다른_원본은_파생_이미지를_공유하지_않음() throws IOException {
+        //given
+        String pngUrl = storeImage("photo.png", 800, 600);
+        String jpgUrl = storeImage("photo.jpg", 400, 300);
+        imageVariantGenerator.generateAsync(pngUrl);
+        imageVariantGenerator.generateAsync(jpgUrl);
+
+        //when
+        imageVariantGenerator.deleteVariants(pngUrl);
+
+        //then
+        assertThat(ImageVariant.THUMBNAIL.urlOf(pngUrl)).isNotEqualTo(ImageVariant.THUMBNAIL.urlOf(jpgUrl));
+        assertThat(readVariant(ImageVariant.DISPLAY.urlOf(jpgUrl)).getWidth()).isEqualTo(400);
+        assertThat(readVariant(ImageVariant.THUMBNAIL.urlOf(jpgUrl))).isNotNull();
+    }
+
+    private String storeImage(String fileName, int width, int height) throws IOException {
+        Path dir = Files.createDirectories(uploadDir.resolve("task-completions"));
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", dir.resolve(fileName).toFile());
+        return "/uploads/task-completions/" + fileName;
+    }
+
+    private BufferedImage readVariant(String variantUrl) throws IOException {
+        return ImageIO.read(uploadDir.resolve(variantUrl.substring("/uploads/".length())).toFile());
+    }
+}
@@ -0,0 +1,150 @@
+package com.seolstudy.backend.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LocalFileStorageTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalFileStorage localFileStorage;
+
+    @BeforeEach
+    void setUp() {
+        localFileStorage = new LocalFileStorage(uploadDir.toString());
+    }
+
+    @Test
+    @DisplayName("저장한 파일 조회, 메타데이터, 삭제")
+    void 저장한_파일_조회_메타데이터_삭제() throws IOException {
+        //given
+        byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+
+        //when
+        localFileStorage.store("task-attachments/a.pdf", new ByteArrayInputStream(content), content.length, "application/pdf");
+
+        //then
+        try (InputStream inputStream = localFileStorage.open("task-attachments/a.pdf")) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+        assertThat(localFileStorage.stat("task-attachments/a.pdf"))
+                .hasValueSatisfying(stat -> assertThat(stat.getSize()).isEqualTo(content.length));
+        try (Stream<Path> files = Files.list(uploadDir.resolve("task-attachments"))) {
+            assertThat(files.count()).isEqualTo(1L);
+        }
+
+        assertThat(localFileStorage.delete("task-attachments/a.pdf")).isTrue();
+        assertThat(localFileStorage.stat("task-attachments/a.pdf")).isEmpty();
+        assertThatThrownBy(() -> localFileStorage.open("task-attachments/a.pdf"))
+                .isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    @DisplayName("다른 디렉터리의 key로 이동")
+    void 다른_디렉터리의_key로_이동() throws IOException {
+        //given
+        byte[] content = "blob".getBytes(StandardCharsets.UTF_8);
+        localFileStorage.store("blobs/incoming.tmp", new ByteArrayInputStream(content), content.length, "image/png");
+
+        //when
+        localFileStorage.move("blobs/incoming.tmp", "blobs/ab/abcd.png");
+
+        //then
+        assertThat(localFileStorage.stat("blobs/incoming.tmp")).isEmpty();
+        try (InputStream inputStream = localFileStorage.open("blobs/ab/abcd.png")) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    @DisplayName("prefix 기준 목록 조회")
+    void prefix_기준_목록_조회() throws IOException {
+        //given
+        store("blobs/ab/abc.pdf");
+        store("blobs/cd/cde.png");
+        store("planners/p.png");
+
+        //when
+        List<FileStat> blobs = localFileStorage.list("blobs/");
+        List<FileStat> missing = localFileStorage.list("task-completions/");
+
+        //then
+        assertThat(blobs).extracting(FileStat::getKey)
+                .containsExactlyInAnyOrder("blobs/ab/abc.pdf", "blobs/cd/cde.png");
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("업로드 루트 밖을 가리키는 key 거부")
+    void 업로드_루트_밖을_가리키는_key_거부() {
+        assertThatThrownBy(() -> localFileStorage.delete("../outside.txt"))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("직접 업로드 URL 서명 검증")
+    void 직접_업로드_URL_서명_검증() {
+        //given
+        PresignedUpload upload = localFileStorage.presignUpload(
+                "task-attachments/a.pdf", "application/pdf", 1234, Duration.ofMinutes(15));
+        UriComponents uri = UriComponentsBuilder.fromUriString(upload.getUrl()).build();
+        long expires = Long.parseLong(uri.getQueryParams().getFirst("expires"));
+        String signature = uri.getQueryParams().getFirst("signature");
+
+        //when&then
+        assertThat(uri.getPath()).isEqualTo("/api/uploads/direct");
+        assertThat(upload.getHeaders()).containsEntry("Content-Type", "application/pdf");
+        assertThat(localFileStorage.isValidUpload("task-attachments/a.pdf", "application/pdf", 1234, expires, signature))
+                .isTrue();
+        assertThat(localFileStorage.isValidUpload("task-attachments/a.pdf", "application/pdf", 99999, expires, signature))
+                .isFalse();
+        assertThat(localFileStorage.isValidUpload("task-attachments/b.pdf", "application/pdf", 1234, expires, signature))
+                .isFalse();
+        assertThat(localFileStorage.isValidUpload("task-attachments/a.pdf", "application/pdf", 1234, 1L, signature))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("직접 업로드는 같은 key에 한 번만 기록")
+    void 직접_업로드는_같은_key에_한_번만_기록() throws IOException {
+        //given
+        byte[] first = "first".getBytes(StandardCharsets.UTF_8);
+        byte[] replay = "replay".getBytes(StandardCharsets.UTF_8);
+
+        //when
+        boolean stored = localFileStorage.storeIfAbsent("task-attachments/a.pdf", new ByteArrayInputStream(first));
+        boolean replayed = localFileStorage.storeIfAbsent("task-attachments/a.pdf", new ByteArrayInputStream(replay));
+
+        //then
+        assertThat(stored).isTrue();
+        assertThat(replayed).isFalse();
+        try (InputStream inputStream = localFileStorage.open("task-attachments/a.pdf")) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(first);
+        }
+        try (Stream<Path> files = Files.list(uploadDir.resolve("task-attachments"))) {
+            assertThat(files.count()).isEqualTo(1L);
+        }
+    }
+
+    private void store(String key) throws IOException {
+        localFileStorage.store(key, new ByteArrayInputStream(new byte[]{1}), 1, "application/octet-stream");
+    }
+}
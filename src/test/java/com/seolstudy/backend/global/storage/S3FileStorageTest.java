@@ -0,0 +1,119 @@
+package com.seolstudy.backend.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * S3 호환 스토리지(MinIO) 연동 테스트
+ * docker compose up minio 후 S3_TEST_ENDPOINT=http://localhost:9000 으로 실행한다.
+ */
+@EnabledIfEnvironmentVariable(named = "S3_TEST_ENDPOINT", matches = ".+")
+public class S3FileStorageTest {
+
+    private static final String BUCKET = "seolstudy-test";
+
+    private static S3Client s3Client;
+    private static S3Presigner s3Presigner;
+    private static S3FileStorage s3FileStorage;
+
+    @BeforeAll
+    static void setUp() {
+        URI endpoint = URI.create(System.getenv("S3_TEST_ENDPOINT"));
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create(
+                System.getenv().getOrDefault("S3_TEST_ACCESS_KEY", "minioadmin"),
+                System.getenv().getOrDefault("S3_TEST_SECRET_KEY", "minioadmin")));
+
+        s3Client = S3Client.builder()
+                .endpointOverride(endpoint)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(credentials)
+                .forcePathStyle(true)
+                .build();
+        s3Presigner = S3Presigner.builder()
+                .endpointOverride(endpoint)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        try {
+            s3Client.createBucket(builder -> builder.bucket(BUCKET));
+        } catch (BucketAlreadyOwnedByYouException e) {
+            // 이전 실행에서 생성됨
+        }
+        s3FileStorage = new S3FileStorage(s3Client, s3Presigner, BUCKET, S3FileStorage.MIN_PART_SIZE);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        s3Presigner.close();
+        s3Client.close();
+    }
+
+    @Test
+    @DisplayName("part 크기보다 큰 파일은 multipart로 저장")
+    void part_크기보다_큰_파일은_multipart로_저장() throws IOException {
+        //given
+        byte[] content = new byte[S3FileStorage.MIN_PART_SIZE * 2 + 1234];
+        new Random(42).nextBytes(content);
+        String key = "task-attachments/" + UUID.randomUUID() + ".pdf";
+
+        //when
+        s3FileStorage.store(key, new ByteArrayInputStream(content), -1, "application/pdf");
+
+        //then
+        try (InputStream inputStream = s3FileStorage.open(key)) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+        assertThat(s3FileStorage.stat(key))
+                .hasValueSatisfying(stat -> assertThat(stat.getSize()).isEqualTo(content.length));
+        s3FileStorage.delete(key);
+        assertThat(s3FileStorage.stat(key)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("목록 조회, 이동, presigned URL 다운로드")
+    void 목록_이동_presigned_URL() throws Exception {
+        //given
+        String prefix = "blobs/" + UUID.randomUUID() + "/";
+        String tempKey = prefix + "incoming.tmp";
+        String key = prefix + "photo.png";
+        byte[] content = {1, 2, 3, 4};
+        s3FileStorage.store(tempKey, new ByteArrayInputStream(content), content.length, "image/png");
+
+        //when
+        s3FileStorage.move(tempKey, key);
+
+        //then
+        assertThat(s3FileStorage.list(prefix)).extracting(FileStat::getKey).containsExactly(key);
+        assertThat(s3FileStorage.stat(tempKey)).isEmpty();
+
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(s3FileStorage.presignedUrl(key, Duration.ofMinutes(1)))).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo(content);
+        s3FileStorage.delete(key);
+    }
+}
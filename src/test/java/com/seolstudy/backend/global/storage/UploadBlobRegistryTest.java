@@ -0,0 +1,149 @@
+package com.seolstudy.backend.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seolstudy.backend.domain.planner.entity.Planner;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import({UploadBlobRegistry.class, FileReferenceCounter.class, UploadBlobRegistryTest.StorageConfig.class})
+class UploadBlobRegistryTest {
+
+    @TestConfiguration
+    static class StorageConfig {
+
+        @Bean
+        FileStorage fileStorage() {
+            try {
+                return new LocalFileStorage(Files.createTempDirectory("upload-blob-test").toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Autowired
+    private UploadBlobRegistry uploadBlobRegistry;
+
+    @Autowired
+    private FileStorage fileStorage;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("같은 blob을 여러 번 사용해도 행은 하나")
+    void 같은_blob을_여러_번_사용해도_행은_하나() {
+        //given
+        String key = createBlob();
+
+        //when
+        uploadBlobRegistry.markUsed(key);
+        uploadBlobRegistry.markUsed(key);
+
+        //then
+        assertThat(countRows(key)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유예 기간 안에 사용된 blob은 참조가 없어도 유지")
+    void 유예_기간_안에_사용된_blob은_유지() throws IOException {
+        //given
+        String key = createBlob();
+        uploadBlobRegistry.markUsed(key);
+
+        //when
+        boolean deleted = uploadBlobRegistry.deleteIfUnreferenced(key, Instant.now().minus(Duration.ofHours(1)));
+
+        //then
+        assertThat(deleted).isFalse();
+        assertThat(fileStorage.stat(key)).isPresent();
+    }
+
+    @Test
+    @DisplayName("참조 중인 blob은 유예 기간이 지나도 유지")
+    void 참조_중인_blob은_유지() throws IOException {
+        //given
+        String key = createBlob();
+        uploadBlobRegistry.markUsed(key);
+        entityManager.persistAndFlush(Planner.builder()
+                .menteeId(1L)
+                .plannerDate(LocalDate.now())
+                .content("플래너")
+                .imageUrl(FileStorage.urlOf(key))
+                .build());
+
+        //when
+        boolean deleted = uploadBlobRegistry.deleteIfUnreferenced(key, Instant.now().plusSeconds(1));
+
+        //then
+        assertThat(deleted).isFalse();
+        assertThat(fileStorage.stat(key)).isPresent();
+    }
+
+    @Test
+    @DisplayName("유예 기간이 지난 미참조 blob은 파일과 행 삭제")
+    void 유예_기간이_지난_미참조_blob은_삭제() throws IOException {
+        //given
+        String key = createBlob();
+        uploadBlobRegistry.markUsed(key);
+
+        //when
+        boolean deleted = uploadBlobRegistry.deleteIfUnreferenced(key, Instant.now().plusSeconds(1));
+
+        //then
+        assertThat(deleted).isTrue();
+        assertThat(fileStorage.stat(key)).isEmpty();
+        assertThat(countRows(key)).isZero();
+    }
+
+    @Test
+    @DisplayName("행이 없는 이전 blob은 파일 수정 시각으로 판단")
+    void 행이_없는_이전_blob은_파일_수정_시각으로_판단() throws IOException {
+        //given
+        String key = createBlob();
+
+        //when
+        boolean keptWithinGrace = uploadBlobRegistry.deleteIfUnreferenced(key, Instant.now().minus(Duration.ofHours(1)));
+        boolean deletedAfterGrace = uploadBlobRegistry.deleteIfUnreferenced(key, Instant.now().plusSeconds(1));
+
+        //then
+        assertThat(keptWithinGrace).isFalse();
+        assertThat(deletedAfterGrace).isTrue();
+        assertThat(fileStorage.stat(key)).isEmpty();
+    }
+
+    private String createBlob() {
+        String key = "blobs/ab/" + UUID.randomUUID() + ".png";
+        try {
+            fileStorage.store(key, new ByteArrayInputStream(new byte[]{1, 2, 3}), 3, "image/png");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return key;
+    }
+
+    private Integer countRows(String key) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM upload_blob WHERE blob_key = ?", Integer.class, key);
+    }
+}
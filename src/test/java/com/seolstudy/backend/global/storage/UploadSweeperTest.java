@@ -0,0 +1,132 @@
+package com.seolstudy.backend.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class UploadSweeperTest {
+
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(2));
+
+    @TempDir
+    Path uploadDir;
+
+    private FileReferenceCounter fileReferenceCounter;
+    private UploadBlobRegistry uploadBlobRegistry;
+    private UploadSweeper uploadSweeper;
+
+    @BeforeEach
+    void setUp() {
+        fileReferenceCounter = mock(FileReferenceCounter.class);
+        uploadBlobRegistry = mock(UploadBlobRegistry.class);
+        uploadSweeper = new UploadSweeper(fileReferenceCounter, uploadBlobRegistry,
+                new LocalFileStorage(uploadDir.toString()), Duration.ofHours(1), true);
+    }
+
+    @Test
+    @DisplayName("유예 기간이 지난 미참조 파일과 임시 파일 삭제")
+    void 유예_기간이_지난_미참조_파일_삭제() throws IOException {
+        //given
+        Path referenced = createFile("task-attachments/kept.pdf", OLD);
+        Path orphan = createFile("task-attachments/orphan.pdf", OLD);
+        Path recentOrphan = createFile("task-attachments/uploading.pdf", Instant.now());
+        Path staleTemp = createFile("blobs/ab/abcd1234.tmp", OLD);
+        Path unrelated = createFile("other/readme.txt", OLD);
+        when(fileReferenceCounter.findReferencedUrls(anyCollection())).thenReturn(Set.of("/uploads/task-attachments/kept.pdf"));
+
+        //when
+        int deleted = uploadSweeper.sweep(Instant.now());
+
+        //then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(referenced).exists();
+        assertThat(recentOrphan).exists();
+        assertThat(unrelated).exists();
+        assertThat(orphan).doesNotExist();
+        assertThat(staleTemp).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("원본과 함께 파생 이미지 정리")
+    void 원본과_함께_파생_이미지_정리() throws IOException {
+        //given
+        Path keptPhoto = createFile("task-completions/kept.png", OLD);
+        Path keptThumbnail = createFile("task-completions/kept.png_w320.jpg", OLD);
+        createFile("task-completions/orphan.png", OLD);
+        Path orphanDisplay = createFile("task-completions/orphan.png_w1280.jpg", OLD);
+        Path orphanThumbnail = createFile("task-completions/orphan.png_w320.jpg", OLD);
+        when(fileReferenceCounter.findReferencedUrls(anyCollection())).thenReturn(Set.of("/uploads/task-completions/kept.png"));
+
+        //when
+        int deleted = uploadSweeper.sweep(Instant.now());
+
+        //then
+        assertThat(deleted).isEqualTo(3);
+        assertThat(keptPhoto).exists();
+        assertThat(keptThumbnail).exists();
+        assertThat(orphanDisplay).doesNotExist();
+        assertThat(orphanThumbnail).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("미참조 blob은 잠금 안에서 다시 확인한 뒤 삭제")
+    void 미참조_blob은_잠금_안에서_다시_확인한_뒤_삭제() throws IOException {
+        //given
+        String blobKey = "blobs/ab/" + "ab".repeat(32) + ".png";
+        createFile(blobKey, OLD);
+        when(fileReferenceCounter.findReferencedUrls(anyCollection())).thenReturn(Set.of());
+        when(uploadBlobRegistry.deleteIfUnreferenced(eq(blobKey), any(Instant.class))).thenReturn(false);
+
+        //when
+        int deleted = uploadSweeper.sweep(Instant.now());
+
+        //then
+        assertThat(deleted).isZero();
+        assertThat(uploadDir.resolve(blobKey)).exists();
+        verify(uploadBlobRegistry).deleteIfUnreferenced(eq(blobKey), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("참조 여부는 파일 목록을 묶음 단위로 나눠 IN 조회로 확인")
+    void 참조_여부는_묶음_단위로_확인() throws IOException {
+        //given
+        for (int i = 0; i <= UploadSweeper.REFERENCE_BATCH_SIZE; i++) {
+            createFile("planners/orphan-" + i + ".png", OLD);
+        }
+        when(fileReferenceCounter.findReferencedUrls(anyCollection())).thenReturn(Set.of());
+
+        //when
+        int deleted = uploadSweeper.sweep(Instant.now());
+
+        //then
+        assertThat(deleted).isEqualTo(UploadSweeper.REFERENCE_BATCH_SIZE + 1);
+        verify(fileReferenceCounter, times(2)).findReferencedUrls(
+                argThat(urls -> !urls.isEmpty() && urls.size() <= UploadSweeper.REFERENCE_BATCH_SIZE));
+    }
+
+    private Path createFile(String relativePath, Instant lastModified) throws IOException {
+        Path file = uploadDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[]{1});
+        Files.setLastModifiedTime(file, FileTime.from(lastModified));
+        return file;
+    }
+}
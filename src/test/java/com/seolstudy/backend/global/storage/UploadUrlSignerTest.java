@@ -0,0 +1,50 @@
+package com.seolstudy.backend.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UploadUrlSignerTest {
+
+    private static final String JWT_SECRET = "jwt-secret-for-upload-signer-test-0123456789";
+
+    @Test
+    @DisplayName("전용 키가 없으면 JWT 키와 다른 파생 키로 서명")
+    void 전용_키가_없으면_JWT_키와_다른_파생_키로_서명() {
+        //given
+        UploadUrlSigner derived = new UploadUrlSigner("", JWT_SECRET);
+        UploadUrlSigner rawJwtKey = new UploadUrlSigner(JWT_SECRET);
+
+        //when
+        String signature = derived.sign("payload");
+
+        //then
+        assertThat(derived.verify("payload", signature)).isTrue();
+        assertThat(rawJwtKey.verify("payload", signature)).isFalse();
+        assertThat(new UploadUrlSigner("", JWT_SECRET).verify("payload", signature)).isTrue();
+    }
+
+    @Test
+    @DisplayName("전용 키가 있으면 전용 키로 서명")
+    void 전용_키가_있으면_전용_키로_서명() {
+        //given
+        UploadUrlSigner signer = new UploadUrlSigner("upload-secret", JWT_SECRET);
+
+        //when
+        String signature = signer.sign("payload");
+
+        //then
+        assertThat(new UploadUrlSigner("upload-secret").verify("payload", signature)).isTrue();
+        assertThat(new UploadUrlSigner("", JWT_SECRET).verify("payload", signature)).isFalse();
+    }
+
+    @Test
+    @DisplayName("서명 키를 만들 비밀값이 없으면 시작 실패")
+    void 서명_키를_만들_비밀값이_없으면_시작_실패() {
+        //when&then
+        assertThatThrownBy(() -> new UploadUrlSigner("", ""))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.seolstudy.backend.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.seolstudy.backend.global.metrics.QueryStats;
+import java.util.function.Supplier;
+
+/**
+ * 서비스 호출 한 번에 실행되는 JDBC statement 수 검증 헬퍼
+ * QueryStatsListener가 등록된 JPA 테스트(@DataJpaTest 등)에서 사용하며,
+ * 호출 전 flush/clear로 영속성 컨텍스트를 비워야 준비 단계의 INSERT가 섞이지 않는다.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertMaxQueries(int maxQueries, Supplier<T> call) {
+        QueryStats.begin();
+        T result;
+        QueryStats stats;
+        try {
+            result = call.get();
+        } finally {
+            stats = QueryStats.end();
+        }
+
+        assertThat(stats.getStatementCount())
+                .as("실행된 쿼리 수")
+                .isLessThanOrEqualTo(maxQueries);
+        return result;
+    }
+}